@@ -1,6 +1,6 @@
 package com.nictas.reviews.configuration;
 
-import java.util.List;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Set;
 
@@ -12,58 +12,88 @@ import org.springframework.security.oauth2.core.OAuth2AuthenticatedPrincipal;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.security.oauth2.server.resource.introspection.OAuth2IntrospectionAuthenticatedPrincipal;
+import org.springframework.security.oauth2.server.resource.introspection.OAuth2IntrospectionException;
 import org.springframework.security.oauth2.server.resource.introspection.OpaqueTokenIntrospector;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.nictas.reviews.domain.Developer;
 import com.nictas.reviews.service.github.GitHubClient;
 import com.nictas.reviews.service.github.GitHubClientException;
 import com.nictas.reviews.service.github.GitHubClientProvider;
 import com.nictas.reviews.service.scheduled.OrganizationAdminsSyncService;
+import com.nictas.reviews.util.HashUtils;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
 public class GitHubOpaqueTokenIntrospector implements OpaqueTokenIntrospector {
 
+    static final String CACHE_NAME = "token-introspection";
+
     private final GitHubClientProvider clientProvider;
     private final OrganizationAdminsSyncService organizationAdminsSyncService;
     private final String developersUrl;
+    private final Cache<String, TokenIntrospection> cache;
 
     @Autowired
     public GitHubOpaqueTokenIntrospector(GitHubClientProvider clientProvider,
                                          OrganizationAdminsSyncService organizationAdminsSyncService,
-                                         @Value("${developers.github.url}") String developersUrl) {
+                                         MeterRegistry meterRegistry,
+                                         @Value("${developers.github.url}") String developersUrl,
+                                         @Value("${security.token-cache.maximum-size}") long maximumSize,
+                                         @Value("${security.token-cache.expire-after-write}") Duration expireAfterWrite,
+                                         @Value("${security.token-cache.failure-expire-after-write}")
+                                         Duration failureExpireAfterWrite) {
         this.clientProvider = clientProvider;
         this.organizationAdminsSyncService = organizationAdminsSyncService;
         this.developersUrl = developersUrl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenIntrospectionExpiry(expireAfterWrite, failureExpireAfterWrite))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
     }
 
     @Override
     public OAuth2AuthenticatedPrincipal introspect(String token) {
+        TokenIntrospection introspection = cache.get(HashUtils.sha256(token), unused -> introspectToken(token));
+        if (introspection.getError() != null) {
+            OAuth2Error error = new OAuth2Error("invalid_token", "The token is invalid or has expired", null);
+            throw new OAuth2AuthenticationException(error, introspection.getError());
+        }
+        return toPrincipal(introspection.getUser());
+    }
+
+    private TokenIntrospection introspectToken(String token) {
         try {
-            return introspectToken(token);
+            GitHubClient client = clientProvider.getClientForUrl(developersUrl, token);
+            return new TokenIntrospection(client.getMyself(), null);
         } catch (GitHubClientException e) {
+            if (!e.isUnauthorized()) {
+                throw new OAuth2IntrospectionException("Unable to introspect token: " + e.getMessage(), e);
+            }
             log.error("Error introspecting token", e);
-
-            OAuth2Error error = new OAuth2Error("invalid_token", "The token is invalid or has expired", null);
-            throw new OAuth2AuthenticationException(error, e);
+            return new TokenIntrospection(null, e);
         }
     }
 
-    private OAuth2AuthenticatedPrincipal introspectToken(String token) {
-        GitHubClient client = clientProvider.getClientForUrl(developersUrl, token);
-        List<Developer> organizationAdmins = organizationAdminsSyncService.getOrganizationAdmins();
-        Developer user = client.getMyself();
-
-        Set<GrantedAuthority> authorities = getGrantedAuthorities(user, organizationAdmins);
+    OAuth2AuthenticatedPrincipal toPrincipal(Developer user) {
+        Set<GrantedAuthority> authorities = getGrantedAuthorities(user);
         Map<String, Object> attributes = Map.of("name", user.getLogin());
         return new OAuth2IntrospectionAuthenticatedPrincipal(user.getLogin(), attributes, authorities);
     }
 
-    private Set<GrantedAuthority> getGrantedAuthorities(Developer user, List<Developer> organizationAdmins) {
-        boolean isAdmin = isAdmin(user, organizationAdmins);
+    private Set<GrantedAuthority> getGrantedAuthorities(Developer user) {
+        boolean isAdmin = organizationAdminsSyncService.getOrganizationAdmins()
+                .isAdmin(user);
         if (isAdmin) {
             return Set.of(new SimpleGrantedAuthority(UserRoles.ROLE_USER),
                     new SimpleGrantedAuthority(UserRoles.ROLE_ADMIN));
@@ -71,10 +101,36 @@ public class GitHubOpaqueTokenIntrospector implements OpaqueTokenIntrospector {
         return Set.of(new SimpleGrantedAuthority(UserRoles.ROLE_USER));
     }
 
-    private boolean isAdmin(Developer user, List<Developer> organizationAdmins) {
-        return organizationAdmins.stream()
-                .map(Developer::getEmail)
-                .anyMatch(adminEmail -> adminEmail.equals(user.getEmail()));
+    @Data
+    private static class TokenIntrospection {
+
+        private final Developer user;
+        private final GitHubClientException error;
+
+    }
+
+    @Data
+    private static class TokenIntrospectionExpiry implements Expiry<String, TokenIntrospection> {
+
+        private final Duration expireAfterWrite;
+        private final Duration failureExpireAfterWrite;
+
+        @Override
+        public long expireAfterCreate(String key, TokenIntrospection value, long currentTime) {
+            return (value.getError() == null ? expireAfterWrite : failureExpireAfterWrite).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, TokenIntrospection value, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, TokenIntrospection value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
     }
 
 }
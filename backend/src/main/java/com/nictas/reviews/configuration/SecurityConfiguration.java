@@ -1,6 +1,7 @@
 package com.nictas.reviews.configuration;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -18,10 +19,13 @@ public class SecurityConfiguration {
     static final String ROLE_ADMIN = "ADMIN";
 
     private final GitHubOpaqueTokenIntrospector gitHubOpaqueTokenIntrospector;
+    private final String identityAssertionKey;
 
     @Autowired
-    public SecurityConfiguration(GitHubOpaqueTokenIntrospector gitHubOpaqueTokenIntrospector) {
+    public SecurityConfiguration(GitHubOpaqueTokenIntrospector gitHubOpaqueTokenIntrospector,
+                                 @Value("${identity-assertion.key:}") String identityAssertionKey) {
         this.gitHubOpaqueTokenIntrospector = gitHubOpaqueTokenIntrospector;
+        this.identityAssertionKey = identityAssertionKey;
     }
 
     @Bean
@@ -30,7 +34,8 @@ public class SecurityConfiguration {
                 .authorizeHttpRequests(customizer -> customizer.anyRequest()
                         .hasRole(ROLE_USER))
                 .oauth2ResourceServer(customizer -> customizer.opaqueToken(
-                        opaqueTokenCustomizer -> opaqueTokenCustomizer.introspector(gitHubOpaqueTokenIntrospector)))
+                        opaqueTokenCustomizer -> opaqueTokenCustomizer.introspector(new SignedIdentityTokenIntrospector(
+                                gitHubOpaqueTokenIntrospector, identityAssertionKey))))
                 .build();
     }
 
@@ -0,0 +1,78 @@
+package com.nictas.reviews.configuration;
+
+import java.nio.charset.StandardCharsets;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.security.oauth2.core.OAuth2AuthenticatedPrincipal;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.server.resource.introspection.OpaqueTokenIntrospector;
+
+import com.nictas.reviews.domain.Developer;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class SignedIdentityTokenIntrospector implements OpaqueTokenIntrospector {
+
+    static final String ISSUER = "fair-reviews-gateway";
+    static final String EMAIL_CLAIM = "email";
+    static final int MINIMUM_KEY_LENGTH = 32;
+
+    private final GitHubOpaqueTokenIntrospector gitHubOpaqueTokenIntrospector;
+    private final JwtDecoder jwtDecoder;
+
+    public SignedIdentityTokenIntrospector(GitHubOpaqueTokenIntrospector gitHubOpaqueTokenIntrospector, String key) {
+        this.gitHubOpaqueTokenIntrospector = gitHubOpaqueTokenIntrospector;
+        this.jwtDecoder = key.isEmpty() ? null : createJwtDecoder(key);
+    }
+
+    private static JwtDecoder createJwtDecoder(String key) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length < MINIMUM_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    String.format("The identity assertion key must be at least %d bytes long", MINIMUM_KEY_LENGTH));
+        }
+        NimbusJwtDecoder jwtDecoder = NimbusJwtDecoder.withSecretKey(new SecretKeySpec(keyBytes, "HmacSHA256"))
+                .macAlgorithm(MacAlgorithm.HS256)
+                .build();
+        jwtDecoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(ISSUER));
+        return jwtDecoder;
+    }
+
+    @Override
+    public OAuth2AuthenticatedPrincipal introspect(String token) {
+        if (jwtDecoder == null || !isSignedIdentity(token)) {
+            return gitHubOpaqueTokenIntrospector.introspect(token);
+        }
+        Jwt jwt = decode(token);
+        Developer user = new Developer(jwt.getSubject(), jwt.getClaimAsString(EMAIL_CLAIM));
+        return gitHubOpaqueTokenIntrospector.toPrincipal(user);
+    }
+
+    private Jwt decode(String token) {
+        try {
+            return jwtDecoder.decode(token);
+        } catch (JwtException e) {
+            log.error("Error verifying signed identity", e);
+
+            OAuth2Error error = new OAuth2Error("invalid_token", "The token is invalid or has expired", null);
+            throw new OAuth2AuthenticationException(error, e);
+        }
+    }
+
+    private static boolean isSignedIdentity(String token) {
+        // GitHub tokens never contain dots, while a JWS in compact serialization always has three parts
+        return token.chars()
+                .filter(character -> character == '.')
+                .count() == 2;
+    }
+
+}
@@ -13,10 +13,12 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.nictas.reviews.configuration.UserRoles;
+import com.nictas.reviews.controller.rest.dto.CursorSlice;
 import com.nictas.reviews.controller.rest.dto.PullRequestReviewWithoutDeveloper;
 import com.nictas.reviews.domain.Developer;
 import com.nictas.reviews.service.DeveloperService;
@@ -58,6 +60,14 @@ public class DeveloperController {
                 .map(PullRequestReviewWithoutDeveloper::from);
     }
 
+    @GetMapping("/{login}/history/cursor")
+    public CursorSlice<PullRequestReviewWithoutDeveloper> getDeveloperHistoryByCursor(
+            @PathVariable("login") String login, @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        return pullRequestReviewService.getReviewsByDeveloperLogin(login, cursor, size)
+                .map(PullRequestReviewWithoutDeveloper::from);
+    }
+
     @DeleteMapping("/{login}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Secured(UserRoles.ROLE_ADMIN)
@@ -1,13 +1,11 @@
 package com.nictas.reviews.controller.rest;
 
-import java.time.Instant;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
-import org.springframework.scheduling.TaskScheduler;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,11 +13,16 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.nictas.reviews.configuration.UserRoles;
+import com.nictas.reviews.controller.rest.dto.MultiplierPreview;
 import com.nictas.reviews.domain.Multiplier;
+import com.nictas.reviews.domain.MultiplierApplicationJob;
+import com.nictas.reviews.service.MultiplierApplicationJobService;
+import com.nictas.reviews.service.MultiplierPreviewService;
 import com.nictas.reviews.service.MultiplierService;
 import com.nictas.reviews.service.scheduled.MultiplierApplierService;
 
@@ -29,14 +32,17 @@ public class MultiplierController {
 
     private final MultiplierService multiplierService;
     private final MultiplierApplierService multiplierApplierService;
-    private final TaskScheduler taskScheduler;
+    private final MultiplierApplicationJobService multiplierApplicationJobService;
+    private final MultiplierPreviewService multiplierPreviewService;
 
     @Autowired
     public MultiplierController(MultiplierService developerService, MultiplierApplierService multiplierApplierService,
-                                TaskScheduler taskScheduler) {
+                                MultiplierApplicationJobService multiplierApplicationJobService,
+                                MultiplierPreviewService multiplierPreviewService) {
         this.multiplierService = developerService;
         this.multiplierApplierService = multiplierApplierService;
-        this.taskScheduler = taskScheduler;
+        this.multiplierApplicationJobService = multiplierApplicationJobService;
+        this.multiplierPreviewService = multiplierPreviewService;
     }
 
     @GetMapping
@@ -57,8 +63,13 @@ public class MultiplierController {
     @PostMapping("/latest/apply")
     @ResponseStatus(HttpStatus.ACCEPTED)
     @Secured(UserRoles.ROLE_ADMIN)
-    public void applyLatestMultiplier() {
-        taskScheduler.schedule(multiplierApplierService::applyLatestMultiplier, Instant.now());
+    public MultiplierApplicationJob applyLatestMultiplier() {
+        return multiplierApplierService.startApplyingLatestMultiplier();
+    }
+
+    @GetMapping("/jobs/{id}")
+    public MultiplierApplicationJob getJob(@PathVariable("id") UUID id) {
+        return multiplierApplicationJobService.getJob(id);
     }
 
     @PostMapping
@@ -68,6 +79,14 @@ public class MultiplierController {
         return multiplierService.saveMultiplier(multiplier);
     }
 
+    @PostMapping("/preview")
+    @Secured(UserRoles.ROLE_ADMIN)
+    public MultiplierPreview previewMultiplier(@RequestBody Multiplier multiplier,
+                                               @RequestParam(name = "samplePercentage", defaultValue = "100")
+                                               double samplePercentage) {
+        return multiplierPreviewService.previewMultiplier(multiplier, samplePercentage);
+    }
+
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Secured(UserRoles.ROLE_ADMIN)
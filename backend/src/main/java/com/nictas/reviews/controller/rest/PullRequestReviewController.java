@@ -14,11 +14,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.nictas.reviews.configuration.UserRoles;
+import com.nictas.reviews.controller.rest.dto.CursorSlice;
 import com.nictas.reviews.controller.rest.dto.PullRequestAssignRequest;
+import com.nictas.reviews.controller.rest.dto.PullRequestAssignResult;
 import com.nictas.reviews.controller.rest.dto.PullRequestSearchRequest;
 import com.nictas.reviews.domain.PullRequestReview;
 import com.nictas.reviews.service.PullRequestReviewService;
@@ -39,6 +42,13 @@ public class PullRequestReviewController {
         return pullRequestService.getAllReviews(pageable);
     }
 
+    @GetMapping("/cursor")
+    public CursorSlice<PullRequestReview> getAllReviewsByCursor(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        return pullRequestService.getReviews(cursor, size);
+    }
+
     @GetMapping("/{id}")
     public PullRequestReview getReview(@PathVariable UUID id) {
         return pullRequestService.getReview(id);
@@ -55,6 +65,11 @@ public class PullRequestReviewController {
                 request.getAssigneeExclusionList());
     }
 
+    @PostMapping("/assign/batch")
+    public List<PullRequestAssignResult> assignBatch(@RequestBody List<PullRequestAssignRequest> requests) {
+        return pullRequestService.assignBatch(requests);
+    }
+
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Secured(UserRoles.ROLE_ADMIN)
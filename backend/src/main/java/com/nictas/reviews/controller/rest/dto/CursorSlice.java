@@ -0,0 +1,29 @@
+package com.nictas.reviews.controller.rest.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.jackson.Jacksonized;
+
+@Data
+@Builder
+@Jacksonized
+@RequiredArgsConstructor
+public class CursorSlice<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    public <R> CursorSlice<R> map(Function<? super T, ? extends R> converter) {
+        List<R> convertedContent = content.stream()
+                .<R> map(converter)
+                .toList();
+        return new CursorSlice<>(convertedContent, size, hasNext, nextCursor);
+    }
+
+}
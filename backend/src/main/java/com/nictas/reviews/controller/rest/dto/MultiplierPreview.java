@@ -0,0 +1,53 @@
+package com.nictas.reviews.controller.rest.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.jackson.Jacksonized;
+
+@Data
+@Builder
+@Jacksonized
+@RequiredArgsConstructor
+public class MultiplierPreview {
+
+    private final double samplePercentage;
+    private final long scannedReviews;
+    private final long changedReviews;
+    private final ScoreChangeDistribution scoreChanges;
+    private final List<DeveloperScoreChange> developers;
+
+    @Data
+    @Builder
+    @Jacksonized
+    public static class ScoreChangeDistribution {
+
+        private final double minimum;
+        private final double median;
+        private final double mean;
+        private final double percentile90;
+        private final double percentile99;
+        private final double maximum;
+
+    }
+
+    @Data
+    @Builder
+    @Jacksonized
+    public static class DeveloperScoreChange {
+
+        private final String login;
+        private final double currentScore;
+        private final double previewScore;
+        private final int currentRank;
+        private final int previewRank;
+
+        public double getScoreDifference() {
+            return previewScore - currentScore;
+        }
+
+    }
+
+}
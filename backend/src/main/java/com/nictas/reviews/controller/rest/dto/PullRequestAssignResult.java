@@ -0,0 +1,31 @@
+package com.nictas.reviews.controller.rest.dto;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.nictas.reviews.domain.PullRequestReview;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.jackson.Jacksonized;
+
+@Data
+@Builder
+@Jacksonized
+@RequiredArgsConstructor
+public class PullRequestAssignResult {
+
+    private final String pullRequestUrl;
+    private final List<PullRequestReview> reviews;
+    private final String error;
+
+    public static PullRequestAssignResult success(String pullRequestUrl, List<PullRequestReview> reviews) {
+        return new PullRequestAssignResult(pullRequestUrl, reviews, null);
+    }
+
+    public static PullRequestAssignResult failure(String pullRequestUrl, String error) {
+        return new PullRequestAssignResult(pullRequestUrl, Collections.emptyList(), error);
+    }
+
+}
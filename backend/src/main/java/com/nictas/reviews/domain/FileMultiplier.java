@@ -2,6 +2,8 @@ package com.nictas.reviews.domain;
 
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,6 +23,8 @@ public class FileMultiplier {
     @Builder.Default
     private UUID id = UUID.randomUUID();
     private String fileExtension;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String pathPattern;
     private double additionsMultiplier;
     private double deletionsMultiplier;
 
@@ -0,0 +1,80 @@
+package com.nictas.reviews.domain;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Setter;
+import lombok.With;
+import lombok.extern.jackson.Jacksonized;
+
+@Data
+@With
+@Setter(AccessLevel.NONE)
+@Builder
+@Jacksonized
+@AllArgsConstructor
+@Entity
+public class MultiplierApplicationJob {
+
+    public static final UUID FIRST_REVIEW_ID = new UUID(0, 0);
+
+    @Builder.Default
+    @Id
+    private UUID id = UUID.randomUUID();
+    @ManyToOne
+    private Multiplier multiplier;
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    private Status status = Status.RUNNING;
+    @Builder.Default
+    private UUID lastReviewId = FIRST_REVIEW_ID;
+    private long processedReviews;
+    private long totalReviews;
+    @Builder.Default
+    @EqualsAndHashCode.Exclude
+    private OffsetDateTime startedAt = OffsetDateTime.now();
+    @Builder.Default
+    @EqualsAndHashCode.Exclude
+    private OffsetDateTime updatedAt = OffsetDateTime.now();
+    @EqualsAndHashCode.Exclude
+    private OffsetDateTime finishedAt;
+    @JsonIgnore
+    private String owner;
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    private OffsetDateTime leaseExpiresAt;
+
+    protected MultiplierApplicationJob() {
+        // Required by JPA.
+    }
+
+    public double getReviewsPerSecond() {
+        OffsetDateTime end = finishedAt == null ? updatedAt : finishedAt;
+        long elapsedMillis = Duration.between(startedAt, end)
+                .toMillis();
+        if (elapsedMillis <= 0) {
+            return 0;
+        }
+        return processedReviews * 1000. / elapsedMillis;
+    }
+
+    public enum Status {
+
+        RUNNING, COMPLETED, FAILED, SUPERSEDED
+
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.nictas.reviews.domain;
+
+import java.util.UUID;
+
+import lombok.Data;
+
+@Data
+public class PullRequestReviewScore {
+
+    private final UUID id;
+    private final String developerLogin;
+    private final double score;
+    private final PullRequestFileDetails pullRequestFileDetails;
+
+}
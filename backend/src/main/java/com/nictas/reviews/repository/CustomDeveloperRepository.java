@@ -1,5 +1,6 @@
 package com.nictas.reviews.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,4 +10,6 @@ public interface CustomDeveloperRepository {
 
     Optional<Developer> findWithLowestScore(List<String> loginExclusionList);
 
+    void insertAll(Collection<Developer> developers);
+
 }
@@ -1,5 +1,6 @@
 package com.nictas.reviews.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -7,6 +8,7 @@ import com.nictas.reviews.domain.Developer;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
 
 public class CustomDeveloperRepositoryImpl implements CustomDeveloperRepository {
 
@@ -17,7 +19,9 @@ public class CustomDeveloperRepositoryImpl implements CustomDeveloperRepository
     public Optional<Developer> findWithLowestScore(List<String> loginExclusionList) {
         @SuppressWarnings("unchecked")
         List<Developer> developers = entityManager
-                .createQuery("SELECT d FROM Developer d WHERE d.login NOT IN :loginExclusionList ORDER BY d.score ASC")
+                .createQuery("""
+                        SELECT d FROM Developer d WHERE d.login NOT IN :loginExclusionList
+                        ORDER BY d.score ASC, d.login ASC""")
                 .setParameter("loginExclusionList", loginExclusionList)
                 .setMaxResults(1)
                 .getResultList();
@@ -27,4 +31,11 @@ public class CustomDeveloperRepositoryImpl implements CustomDeveloperRepository
         return Optional.of(developers.get(0));
     }
 
+    @Override
+    @Transactional
+    public void insertAll(Collection<Developer> developers) {
+        developers.forEach(entityManager::persist);
+        entityManager.flush();
+    }
+
 }
@@ -0,0 +1,11 @@
+package com.nictas.reviews.repository;
+
+import java.util.Collection;
+
+import com.nictas.reviews.domain.PullRequestReview;
+
+public interface CustomPullRequestReviewRepository {
+
+    void updateAll(Collection<PullRequestReview> reviews);
+
+}
@@ -0,0 +1,24 @@
+package com.nictas.reviews.repository;
+
+import java.util.Collection;
+
+import com.nictas.reviews.domain.PullRequestReview;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+
+public class CustomPullRequestReviewRepositoryImpl implements CustomPullRequestReviewRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public void updateAll(Collection<PullRequestReview> reviews) {
+        reviews.forEach(entityManager::merge);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+}
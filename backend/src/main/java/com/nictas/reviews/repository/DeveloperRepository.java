@@ -1,11 +1,25 @@
 package com.nictas.reviews.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.nictas.reviews.domain.Developer;
 
+import jakarta.transaction.Transactional;
+
 @Repository
 public interface DeveloperRepository extends JpaRepository<Developer, String>, CustomDeveloperRepository {
 
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Developer d SET d.score = d.score + :scoreDifference WHERE d.login = :login")
+    int addToScore(String login, double scoreDifference);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Developer d SET d.email = :email WHERE d.login = :login")
+    int updateEmail(String login, String email);
+
 }
@@ -0,0 +1,43 @@
+package com.nictas.reviews.repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.nictas.reviews.domain.MultiplierApplicationJob;
+import com.nictas.reviews.domain.MultiplierApplicationJob.Status;
+
+import jakarta.transaction.Transactional;
+
+@Repository
+public interface MultiplierApplicationJobRepository extends JpaRepository<MultiplierApplicationJob, UUID> {
+
+    List<MultiplierApplicationJob> findByStatusOrderByStartedAt(Status status);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE MultiplierApplicationJob j SET j.owner = :owner, j.leaseExpiresAt = :leaseExpiresAt
+            WHERE j.id = :id AND j.status = :status AND (j.leaseExpiresAt IS NULL OR j.leaseExpiresAt < :now)""")
+    int claimExpiredLease(UUID id, Status status, String owner, OffsetDateTime leaseExpiresAt, OffsetDateTime now);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE MultiplierApplicationJob j SET j.leaseExpiresAt = :leaseExpiresAt
+            WHERE j.id = :id AND j.status = :status AND j.owner = :owner""")
+    int renewLease(UUID id, Status status, String owner, OffsetDateTime leaseExpiresAt);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE MultiplierApplicationJob j SET j.status = :newStatus, j.updatedAt = :now, j.finishedAt = :now
+            WHERE j.id = :id AND j.status = :status""")
+    int updateStatus(UUID id, Status status, Status newStatus, OffsetDateTime now);
+
+}
@@ -1,17 +1,27 @@
 package com.nictas.reviews.repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import com.nictas.reviews.domain.Multiplier;
 import com.nictas.reviews.domain.PullRequestReview;
+import com.nictas.reviews.domain.PullRequestReviewScore;
+
+import jakarta.transaction.Transactional;
 
 @Repository
-public interface PullRequestReviewRepository extends JpaRepository<PullRequestReview, UUID> {
+public interface PullRequestReviewRepository
+        extends JpaRepository<PullRequestReview, UUID>, CustomPullRequestReviewRepository {
 
     Page<PullRequestReview> findByPullRequestUrl(String pullRequestUrl, Pageable pageable);
 
@@ -19,7 +29,79 @@ public interface PullRequestReviewRepository extends JpaRepository<PullRequestRe
 
     Page<PullRequestReview> findByMultiplierId(UUID id, Pageable pageable);
 
-    @Query("SELECT p FROM PullRequestReview p WHERE p.multiplier.id != :id")
+    @Query("""
+            SELECT p FROM PullRequestReview p LEFT JOIN FETCH p.developer LEFT JOIN FETCH p.multiplier
+            ORDER BY p.createdAt DESC, p.id DESC""")
+    List<PullRequestReview> findNewest(Limit limit);
+
+    // The redundant bound on createdAt lets the index scan start at the cursor instead of skipping up to it
+    @Query("""
+            SELECT p FROM PullRequestReview p LEFT JOIN FETCH p.developer LEFT JOIN FETCH p.multiplier
+            WHERE p.createdAt <= :createdAt AND (p.createdAt < :createdAt OR p.id < :id)
+            ORDER BY p.createdAt DESC, p.id DESC""")
+    List<PullRequestReview> findNewestBefore(OffsetDateTime createdAt, UUID id, Limit limit);
+
+    @Query("""
+            SELECT p FROM PullRequestReview p LEFT JOIN FETCH p.developer LEFT JOIN FETCH p.multiplier
+            WHERE p.developer.login = :developerLogin
+            ORDER BY p.createdAt DESC, p.id DESC""")
+    List<PullRequestReview> findNewestByDeveloperLogin(String developerLogin, Limit limit);
+
+    @Query("""
+            SELECT p FROM PullRequestReview p LEFT JOIN FETCH p.developer LEFT JOIN FETCH p.multiplier
+            WHERE p.developer.login = :developerLogin
+            AND p.createdAt <= :createdAt AND (p.createdAt < :createdAt OR p.id < :id)
+            ORDER BY p.createdAt DESC, p.id DESC""")
+    List<PullRequestReview> findNewestByDeveloperLoginBefore(String developerLogin, OffsetDateTime createdAt, UUID id,
+                                                             Limit limit);
+
+    // An inequality cannot be answered from an index, but the two ranges around the ID can
+    @Query("SELECT p FROM PullRequestReview p WHERE p.multiplier.id < :id OR p.multiplier.id > :id")
     Page<PullRequestReview> findWithDifferentMultiplierIds(UUID id, Pageable pageable);
 
+    @Query("""
+            SELECT p FROM PullRequestReview p LEFT JOIN FETCH p.developer LEFT JOIN FETCH p.multiplier
+            WHERE (p.multiplier.id < :id OR p.multiplier.id > :id) AND p.id > :after ORDER BY p.id""")
+    List<PullRequestReview> findWithDifferentMultiplierIdsAfter(UUID id, UUID after, Limit limit);
+
+    @Query("""
+            SELECT new com.nictas.reviews.domain.PullRequestReviewScore(p.id, p.developer.login, p.score,
+                                                                        p.pullRequestFileDetails)
+            FROM PullRequestReview p WHERE p.id > :after AND p.id <= :until ORDER BY p.id""")
+    List<PullRequestReviewScore> findScoresInIdRange(UUID after, UUID until, Limit limit);
+
+    @Query("SELECT COUNT(p) FROM PullRequestReview p WHERE p.multiplier.id < :id OR p.multiplier.id > :id")
+    long countWithDifferentMultiplierIds(UUID id);
+
+    @Query("""
+            SELECT DISTINCT p.multiplier FROM PullRequestReview p
+            WHERE p.multiplier.id < :id OR p.multiplier.id > :id""")
+    List<Multiplier> findDifferentMultipliers(UUID id);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE pull_request_review SET multiplier_id = :newId WHERE multiplier_id = :oldId",
+            nativeQuery = true)
+    int updateMultiplierIds(UUID oldId, UUID newId);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE pull_request_review SET multiplier_id = :newId
+            WHERE multiplier_id = :oldId AND NOT (file_extensions && CAST(:fileExtensions AS text[]))""",
+            nativeQuery = true)
+    int updateMultiplierIdsWithoutFileExtensions(UUID oldId, UUID newId, String[] fileExtensions);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO pull_request_review (id, developer_login, score, multiplier_id, pull_request_url,
+                                             pull_request_file_details, created_at)
+            SELECT gen_random_uuid(), d.login, p.score, p.multiplier_id, p.pull_request_url,
+                   p.pull_request_file_details, CURRENT_TIMESTAMP
+            FROM pull_request_review p
+            CROSS JOIN developer d
+            WHERE p.developer_login = :sourceLogin AND d.login IN :targetLogins""", nativeQuery = true)
+    int copyReviews(String sourceLogin, Collection<String> targetLogins);
+
 }
@@ -46,6 +46,18 @@ public class DeveloperService {
         repository.save(developer);
     }
 
+    public void addToScore(String login, double scoreDifference) {
+        log.info("Adding {} to score of developer {}", scoreDifference, login);
+        if (repository.addToScore(login, scoreDifference) == 0) {
+            throw new NotFoundException("Could not find developer with login: " + login);
+        }
+    }
+
+    public Developer addToScoreAndGet(String login, double scoreDifference) {
+        addToScore(login, scoreDifference);
+        return getDeveloper(login);
+    }
+
     public void deleteDeveloper(String login) {
         log.info("Deleting developer {}", login);
         if (repository.findById(login)
@@ -0,0 +1,97 @@
+package com.nictas.reviews.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.nictas.reviews.domain.MultiplierApplicationJob;
+import com.nictas.reviews.domain.MultiplierApplicationJob.Status;
+import com.nictas.reviews.error.ConflictException;
+import com.nictas.reviews.error.NotFoundException;
+import com.nictas.reviews.repository.MultiplierApplicationJobRepository;
+
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class MultiplierApplicationJobService {
+
+    private final MultiplierApplicationJobRepository repository;
+    private final Duration leaseDuration;
+    private final String owner = UUID.randomUUID()
+            .toString();
+
+    @Autowired
+    public MultiplierApplicationJobService(MultiplierApplicationJobRepository repository,
+                                           @Value("${multipliers.apply.lease-duration}") Duration leaseDuration) {
+        this.repository = repository;
+        this.leaseDuration = leaseDuration;
+    }
+
+    public MultiplierApplicationJob getJob(UUID id) {
+        log.info("Getting multiplier application job {}", id);
+        return repository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Could not find multiplier application job with ID: " + id));
+    }
+
+    public List<MultiplierApplicationJob> getRunningJobs() {
+        log.debug("Getting running multiplier application jobs");
+        return repository.findByStatusOrderByStartedAt(Status.RUNNING);
+    }
+
+    public List<MultiplierApplicationJob> claimAbandonedJobs() {
+        log.debug("Claiming running multiplier application jobs with expired leases");
+        return getRunningJobs().stream()
+                .filter(this::claimExpiredLease)
+                .map(job -> getJob(job.getId()))
+                .toList();
+    }
+
+    public MultiplierApplicationJob saveJob(MultiplierApplicationJob job) {
+        log.debug("Saving multiplier application job: {}", job);
+        try {
+            return repository.saveAndFlush(job.withOwner(owner)
+                    .withLeaseExpiresAt(getLeaseExpiration()));
+        } catch (DataIntegrityViolationException e) {
+            log.info("Another multiplier application job is already running: {}", e.getMessage());
+            return getRunningJobs().stream()
+                    .findFirst()
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    public void supersedeJob(MultiplierApplicationJob job) {
+        log.info("Superseding multiplier application job {}", job.getId());
+        repository.updateStatus(job.getId(), Status.RUNNING, Status.SUPERSEDED, OffsetDateTime.now());
+    }
+
+    @Transactional
+    public MultiplierApplicationJob updateJob(MultiplierApplicationJob job) {
+        log.debug("Updating multiplier application job: {}", job);
+        OffsetDateTime leaseExpiresAt = getLeaseExpiration();
+        if (repository.renewLease(job.getId(), Status.RUNNING, owner, leaseExpiresAt) == 0) {
+            throw new ConflictException(String.format(
+                    "Multiplier application job %s is no longer running or owned by another instance", job.getId()));
+        }
+        return repository.save(job.withOwner(owner)
+                .withLeaseExpiresAt(leaseExpiresAt));
+    }
+
+    private boolean claimExpiredLease(MultiplierApplicationJob job) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return repository.claimExpiredLease(job.getId(), Status.RUNNING, owner, now.plus(leaseDuration), now) == 1;
+    }
+
+    private OffsetDateTime getLeaseExpiration() {
+        return OffsetDateTime.now()
+                .plus(leaseDuration);
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.nictas.reviews.service;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class MultiplierChangeListener {
+
+    private final DataSource dataSource;
+    private final MultiplierService multiplierService;
+    private final Duration pollTimeout;
+    private final Duration reconnectDelay;
+    private volatile boolean running;
+    private Thread thread;
+
+    @Autowired
+    public MultiplierChangeListener(DataSourceProperties dataSourceProperties, MultiplierService multiplierService,
+                                    @Value("${multipliers.listener.poll-timeout}") Duration pollTimeout,
+                                    @Value("${multipliers.listener.reconnect-delay}") Duration reconnectDelay) {
+        this(dataSourceProperties.initializeDataSourceBuilder()
+                .type(SimpleDriverDataSource.class)
+                .build(), multiplierService, pollTimeout, reconnectDelay);
+    }
+
+    MultiplierChangeListener(DataSource dataSource, MultiplierService multiplierService, Duration pollTimeout,
+                             Duration reconnectDelay) {
+        this.dataSource = dataSource;
+        this.multiplierService = multiplierService;
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "multiplier-change-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                listen(connection);
+            } catch (SQLException e) {
+                log.warn("Listening for multiplier changes failed, retrying in {}: {}", reconnectDelay, e.getMessage());
+                multiplierService.evictLatestMultiplier();
+                if (!sleep(reconnectDelay)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    void listen(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + MultiplierService.CHANGE_NOTIFICATION_CHANNEL);
+        }
+        // Changes committed before the LISTEN took effect would otherwise go unnoticed
+        multiplierService.evictLatestMultiplier();
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+            if (notifications != null && notifications.length > 0) {
+                log.info("Received {} multiplier change notifications", notifications.length);
+                multiplierService.evictLatestMultiplier();
+            }
+            if (!connection.isValid((int) pollTimeout.toSeconds())) {
+                throw new SQLException("Connection is no longer valid");
+            }
+        }
+    }
+
+    private static boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                    .interrupt();
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,170 @@
+package com.nictas.reviews.service;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.DoubleStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import com.nictas.reviews.controller.rest.dto.MultiplierPreview;
+import com.nictas.reviews.controller.rest.dto.MultiplierPreview.DeveloperScoreChange;
+import com.nictas.reviews.controller.rest.dto.MultiplierPreview.ScoreChangeDistribution;
+import com.nictas.reviews.domain.Developer;
+import com.nictas.reviews.domain.Multiplier;
+import com.nictas.reviews.domain.MultiplierApplicationJob;
+import com.nictas.reviews.domain.PullRequestReviewScore;
+import com.nictas.reviews.service.score.FileMultiplierMatcher;
+import com.nictas.reviews.service.score.PullRequestScoreComputer;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class MultiplierPreviewService {
+
+    private static final BigDecimal REVIEW_ID_SPACE = new BigDecimal(BigInteger.ONE.shiftLeft(128));
+    private static final double SCORE_TOLERANCE = 1e-9;
+    private static final Comparator<Developer> SCORE_ORDER = Comparator.comparingDouble(Developer::getScore)
+            .thenComparing(Developer::getLogin);
+
+    private final PullRequestReviewService pullRequestReviewService;
+    private final DeveloperService developerService;
+    private final MultiplierService multiplierService;
+    private final PullRequestScoreComputer pullRequestScoreComputer;
+    private final int chunkSize;
+
+    @Autowired
+    public MultiplierPreviewService(PullRequestReviewService pullRequestReviewService,
+                                    DeveloperService developerService, MultiplierService multiplierService,
+                                    PullRequestScoreComputer pullRequestScoreComputer,
+                                    @Value("${multipliers.preview.chunk-size}") int chunkSize) {
+        this.pullRequestReviewService = pullRequestReviewService;
+        this.developerService = developerService;
+        this.multiplierService = multiplierService;
+        this.pullRequestScoreComputer = pullRequestScoreComputer;
+        this.chunkSize = chunkSize;
+    }
+
+    public MultiplierPreview previewMultiplier(Multiplier multiplier, double samplePercentage) {
+        if (!(samplePercentage > 0 && samplePercentage <= 100)) {
+            throw new IllegalArgumentException(
+                    "Sample percentage must be greater than 0 and at most 100: " + samplePercentage);
+        }
+        log.info("Previewing multiplier {} on {}% of PR reviews", multiplier, samplePercentage);
+        multiplierService.verifyMultiplier(multiplier);
+        FileMultiplierMatcher fileMultiplierMatcher = new FileMultiplierMatcher(multiplier.getFileMultipliers());
+        UUID lastSampledReviewId = getLastSampledReviewId(samplePercentage);
+        Map<String, Double> scoreDifferences = new HashMap<>();
+        DoubleStream.Builder reviewScoreDifferences = DoubleStream.builder();
+        UUID after = MultiplierApplicationJob.FIRST_REVIEW_ID;
+        List<PullRequestReviewScore> reviewScores;
+        do {
+            reviewScores = pullRequestReviewService.getReviewScores(after, lastSampledReviewId, chunkSize);
+            double[] chunkScoreDifferences = reviewScores.parallelStream()
+                    .mapToDouble(reviewScore -> pullRequestScoreComputer.computeScore(
+                            reviewScore.getPullRequestFileDetails(), multiplier, fileMultiplierMatcher)
+                            - reviewScore.getScore())
+                    .toArray();
+            for (int i = 0; i < reviewScores.size(); i++) {
+                scoreDifferences.merge(reviewScores.get(i)
+                        .getDeveloperLogin(), chunkScoreDifferences[i], Double::sum);
+                reviewScoreDifferences.add(chunkScoreDifferences[i]);
+            }
+            if (!reviewScores.isEmpty()) {
+                after = reviewScores.get(reviewScores.size() - 1)
+                        .getId();
+            }
+        } while (reviewScores.size() == chunkSize);
+        double[] sortedScoreDifferences = reviewScoreDifferences.build()
+                .sorted()
+                .toArray();
+        return MultiplierPreview.builder()
+                .samplePercentage(samplePercentage)
+                .scannedReviews(sortedScoreDifferences.length)
+                .changedReviews(Arrays.stream(sortedScoreDifferences)
+                        .filter(scoreDifference -> Math.abs(scoreDifference) > SCORE_TOLERANCE)
+                        .count())
+                .scoreChanges(getDistribution(sortedScoreDifferences))
+                .developers(getDeveloperScoreChanges(scoreDifferences, 100 / samplePercentage))
+                .build();
+    }
+
+    // Review IDs are random, so the reviews in the lowest part of the ID space are a uniform sample
+    private static UUID getLastSampledReviewId(double samplePercentage) {
+        BigInteger lastId = REVIEW_ID_SPACE.multiply(BigDecimal.valueOf(samplePercentage))
+                .divide(BigDecimal.valueOf(100), 0, RoundingMode.FLOOR)
+                .toBigInteger()
+                .subtract(BigInteger.ONE);
+        return new UUID(lastId.shiftRight(64)
+                .longValue(), lastId.longValue());
+    }
+
+    private static ScoreChangeDistribution getDistribution(double[] sortedScoreDifferences) {
+        if (sortedScoreDifferences.length == 0) {
+            return ScoreChangeDistribution.builder()
+                    .build();
+        }
+        return ScoreChangeDistribution.builder()
+                .minimum(sortedScoreDifferences[0])
+                .median(getPercentile(sortedScoreDifferences, 0.5))
+                .mean(Arrays.stream(sortedScoreDifferences)
+                        .average()
+                        .orElse(0))
+                .percentile90(getPercentile(sortedScoreDifferences, 0.9))
+                .percentile99(getPercentile(sortedScoreDifferences, 0.99))
+                .maximum(sortedScoreDifferences[sortedScoreDifferences.length - 1])
+                .build();
+    }
+
+    private static double getPercentile(double[] sortedValues, double percentile) {
+        int rank = (int) Math.ceil(percentile * sortedValues.length);
+        return sortedValues[Math.max(rank, 1) - 1];
+    }
+
+    private List<DeveloperScoreChange> getDeveloperScoreChanges(Map<String, Double> scoreDifferences,
+                                                                double sampleScale) {
+        List<Developer> developers = developerService.getAllDevelopers(Pageable.unpaged())
+                .getContent();
+        List<Developer> previewDevelopers = developers.stream()
+                .map(developer -> developer.withScore(developer.getScore()
+                        + sampleScale * scoreDifferences.getOrDefault(developer.getLogin(), 0.)))
+                .sorted(SCORE_ORDER)
+                .toList();
+        Map<String, Integer> currentRanks = getRanks(developers);
+        Map<String, Integer> previewRanks = getRanks(previewDevelopers);
+        Map<String, Double> currentScores = new HashMap<>();
+        developers.forEach(developer -> currentScores.put(developer.getLogin(), developer.getScore()));
+        return previewDevelopers.stream()
+                .map(developer -> DeveloperScoreChange.builder()
+                        .login(developer.getLogin())
+                        .currentScore(currentScores.get(developer.getLogin()))
+                        .previewScore(developer.getScore())
+                        .currentRank(currentRanks.get(developer.getLogin()))
+                        .previewRank(previewRanks.get(developer.getLogin()))
+                        .build())
+                .toList();
+    }
+
+    private static Map<String, Integer> getRanks(List<Developer> developers) {
+        List<Developer> sortedDevelopers = developers.stream()
+                .sorted(SCORE_ORDER)
+                .toList();
+        Map<String, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < sortedDevelopers.size(); i++) {
+            ranks.put(sortedDevelopers.get(i)
+                    .getLogin(), i + 1);
+        }
+        return ranks;
+    }
+
+}
@@ -7,8 +7,10 @@ import java.util.UUID;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
+import com.nictas.reviews.domain.FileMultiplier;
 import com.nictas.reviews.domain.Multiplier;
 import com.nictas.reviews.domain.PullRequestReview;
 import com.nictas.reviews.error.NotFoundException;
@@ -28,13 +30,19 @@ public class MultiplierService {
             .defaultDeletionsMultiplier(0.2)
             .build();
 
+    public static final String CHANGE_NOTIFICATION_CHANNEL = "multiplier_changed";
+
     private final MultiplierRepository repository;
     private final PullRequestReviewRepository pullRequestReviewRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Multiplier latestMultiplier;
 
     @Autowired
-    public MultiplierService(MultiplierRepository repository, PullRequestReviewRepository pullRequestReviewRepository) {
+    public MultiplierService(MultiplierRepository repository, PullRequestReviewRepository pullRequestReviewRepository,
+                             JdbcTemplate jdbcTemplate) {
         this.repository = repository;
         this.pullRequestReviewRepository = pullRequestReviewRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     public Page<Multiplier> getAllMultipliers(Pageable pageable) {
@@ -48,19 +56,59 @@ public class MultiplierService {
                 .orElseThrow(() -> new NotFoundException("Could not find multiplier with ID: " + id));
     }
 
-    @Transactional
     public Multiplier getLatestMultiplier() {
-        log.info("Getting latest multiplier");
-        Optional<Multiplier> multiplier = repository.findLatest();
-        if (multiplier.isEmpty()) {
-            return saveMultiplier(DEFAULT_MULTIPLIER);
+        Multiplier multiplier = latestMultiplier;
+        if (multiplier != null) {
+            return multiplier;
+        }
+        return loadLatestMultiplier();
+    }
+
+    private synchronized Multiplier loadLatestMultiplier() {
+        if (latestMultiplier == null) {
+            log.info("Getting latest multiplier");
+            Optional<Multiplier> multiplier = repository.findLatest();
+            Multiplier loadedMultiplier = multiplier.isEmpty() ? repository.save(DEFAULT_MULTIPLIER) : multiplier.get();
+            latestMultiplier = loadedMultiplier.withFileMultipliers(List.copyOf(loadedMultiplier.getFileMultipliers()));
         }
-        return multiplier.get();
+        return latestMultiplier;
+    }
+
+    public synchronized void evictLatestMultiplier() {
+        log.debug("Evicting cached latest multiplier");
+        latestMultiplier = null;
     }
 
     public Multiplier saveMultiplier(Multiplier multiplier) {
         log.info("Saving multiplier: {}", multiplier);
-        return repository.save(multiplier);
+        verifyMultiplier(multiplier);
+        Multiplier savedMultiplier = repository.save(multiplier);
+        publishChange();
+        return savedMultiplier;
+    }
+
+    private void publishChange() {
+        evictLatestMultiplier();
+        jdbcTemplate.execute("NOTIFY " + CHANGE_NOTIFICATION_CHANNEL);
+    }
+
+    public void verifyMultiplier(Multiplier multiplier) {
+        multiplier.getFileMultipliers()
+                .forEach(this::verifyFileMultiplier);
+    }
+
+    private void verifyFileMultiplier(FileMultiplier fileMultiplier) {
+        if ((fileMultiplier.getFileExtension() == null) == (fileMultiplier.getPathPattern() == null)) {
+            throw new IllegalArgumentException(String.format(
+                    "File multiplier %s must specify exactly one of file extension and path pattern",
+                    fileMultiplier.getId()));
+        }
+        if (fileMultiplier.getPathPattern() != null && fileMultiplier.getPathPattern()
+                .replace("/", "")
+                .isEmpty()) {
+            throw new IllegalArgumentException(
+                    String.format("File multiplier %s has an empty path pattern", fileMultiplier.getId()));
+        }
     }
 
     @Transactional
@@ -78,6 +126,7 @@ public class MultiplierService {
                     String.format("Multiplier %s is still referenced in %d reviews", id, reviewIds.size()));
         }
         repository.deleteById(id);
+        publishChange();
     }
 
 }
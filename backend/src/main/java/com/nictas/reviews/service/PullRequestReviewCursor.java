@@ -0,0 +1,59 @@
+package com.nictas.reviews.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.nictas.reviews.domain.PullRequestReview;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+@Data
+@RequiredArgsConstructor
+public class PullRequestReviewCursor {
+
+    private static final String SEPARATOR = "/";
+
+    private final OffsetDateTime createdAt;
+    private final UUID id;
+
+    public static PullRequestReviewCursor of(PullRequestReview review) {
+        return new PullRequestReviewCursor(review.getCreatedAt(), review.getId());
+    }
+
+    public static PullRequestReviewCursor decode(String cursor) {
+        String[] parts = decodeBase64(cursor).split(SEPARATOR, -1);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        try {
+            OffsetDateTime createdAt = Instant.parse(parts[0])
+                    .atOffset(ZoneOffset.UTC);
+            return new PullRequestReviewCursor(createdAt, UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    public String encode() {
+        String cursor = createdAt.toInstant() + SEPARATOR + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeBase64(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder()
+                    .decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+}
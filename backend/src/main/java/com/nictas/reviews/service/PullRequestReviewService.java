@@ -1,30 +1,55 @@
 package com.nictas.reviews.service;
 
+import java.net.URI;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.nictas.reviews.controller.rest.dto.CursorSlice;
+import com.nictas.reviews.controller.rest.dto.PullRequestAssignRequest;
+import com.nictas.reviews.controller.rest.dto.PullRequestAssignResult;
 import com.nictas.reviews.domain.Developer;
+import com.nictas.reviews.domain.Multiplier;
+import com.nictas.reviews.domain.PullRequest;
 import com.nictas.reviews.domain.PullRequestReview;
+import com.nictas.reviews.domain.PullRequestReviewScore;
+import com.nictas.reviews.error.ConflictException;
 import com.nictas.reviews.error.NotFoundException;
 import com.nictas.reviews.repository.PullRequestReviewRepository;
 import com.nictas.reviews.service.score.PullRequestScoreComputer;
 import com.nictas.reviews.service.score.PullRequestScoreComputer.PullRequestAssessment;
 
+import jakarta.transaction.Transactional;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
 public class PullRequestReviewService {
 
+    static final int MAX_SLICE_SIZE = 2000;
+
     private final DeveloperService developerService;
     private final PullRequestReviewRepository pullRequestReviewRepository;
     private final PullRequestScoreComputer pullRequestScoreComputer;
+    private final ConcurrentMap<String, InFlightAssignment> inFlightAssignments = new ConcurrentHashMap<>();
 
     @Autowired
     public PullRequestReviewService(DeveloperService developerService,
@@ -56,11 +81,70 @@ public class PullRequestReviewService {
         return pullRequestReviewRepository.findByDeveloperLogin(developerLogin, pageable);
     }
 
+    public CursorSlice<PullRequestReview> getReviews(String cursor, int size) {
+        log.info("Getting {} pull request reviews after cursor {}", size, cursor);
+        validateSliceSize(size);
+        Limit limit = Limit.of(size + 1);
+        if (cursor == null) {
+            return toSlice(pullRequestReviewRepository.findNewest(limit), size);
+        }
+        PullRequestReviewCursor position = PullRequestReviewCursor.decode(cursor);
+        return toSlice(pullRequestReviewRepository.findNewestBefore(position.getCreatedAt(), position.getId(), limit),
+                size);
+    }
+
+    public CursorSlice<PullRequestReview> getReviewsByDeveloperLogin(String developerLogin, String cursor, int size) {
+        log.info("Getting {} pull request reviews for developer {} after cursor {}", size, developerLogin, cursor);
+        validateSliceSize(size);
+        Limit limit = Limit.of(size + 1);
+        if (cursor == null) {
+            return toSlice(pullRequestReviewRepository.findNewestByDeveloperLogin(developerLogin, limit), size);
+        }
+        PullRequestReviewCursor position = PullRequestReviewCursor.decode(cursor);
+        return toSlice(pullRequestReviewRepository.findNewestByDeveloperLoginBefore(developerLogin,
+                position.getCreatedAt(), position.getId(), limit), size);
+    }
+
     public Page<PullRequestReview> getReviewsWithDifferentMultiplierIds(UUID id, Pageable pageable) {
         log.info("Getting all pull request reviews with multiplier different than {}", id);
         return pullRequestReviewRepository.findWithDifferentMultiplierIds(id, pageable);
     }
 
+    public List<PullRequestReview> getReviewsWithDifferentMultiplierIds(UUID id, UUID after, int limit) {
+        log.debug("Getting {} pull request reviews with multiplier different than {} after {}", limit, id, after);
+        return pullRequestReviewRepository.findWithDifferentMultiplierIdsAfter(id, after, Limit.of(limit));
+    }
+
+    public List<PullRequestReviewScore> getReviewScores(UUID after, UUID until, int limit) {
+        log.debug("Getting scores of {} pull request reviews after {} up to {}", limit, after, until);
+        return pullRequestReviewRepository.findScoresInIdRange(after, until, Limit.of(limit));
+    }
+
+    public long countReviewsWithDifferentMultiplierIds(UUID id) {
+        log.info("Counting pull request reviews with multiplier different than {}", id);
+        return pullRequestReviewRepository.countWithDifferentMultiplierIds(id);
+    }
+
+    public List<Multiplier> getDifferentMultipliersOfReviews(UUID id) {
+        log.info("Getting multipliers of pull request reviews with multiplier different than {}", id);
+        return pullRequestReviewRepository.findDifferentMultipliers(id);
+    }
+
+    public int updateMultiplierIds(UUID oldId, UUID newId, Set<String> excludedFileExtensions) {
+        log.info("Updating multiplier of pull request reviews from {} to {} except for files with extensions {}", oldId,
+                newId, excludedFileExtensions);
+        if (excludedFileExtensions.isEmpty()) {
+            return pullRequestReviewRepository.updateMultiplierIds(oldId, newId);
+        }
+        return pullRequestReviewRepository.updateMultiplierIdsWithoutFileExtensions(oldId, newId,
+                excludedFileExtensions.toArray(String[]::new));
+    }
+
+    public void updateReviews(List<PullRequestReview> pullRequestReviews) {
+        log.info("Updating {} pull request reviews", pullRequestReviews.size());
+        pullRequestReviewRepository.updateAll(pullRequestReviews);
+    }
+
     public void saveReview(PullRequestReview pullRequestReview) {
         log.info("Saving pull request review: {}");
         pullRequestReviewRepository.save(pullRequestReview);
@@ -73,21 +157,144 @@ public class PullRequestReviewService {
         pullRequestReviewRepository.deleteById(id);
     }
 
+    private static void validateSliceSize(int size) {
+        if (size < 1 || size > MAX_SLICE_SIZE) {
+            throw new IllegalArgumentException(
+                    String.format("Size must be between 1 and %d: %d", MAX_SLICE_SIZE, size));
+        }
+    }
+
+    private static CursorSlice<PullRequestReview> toSlice(List<PullRequestReview> reviews, int size) {
+        if (reviews.size() <= size) {
+            return new CursorSlice<>(reviews, size, false, null);
+        }
+        List<PullRequestReview> content = reviews.subList(0, size);
+        String nextCursor = PullRequestReviewCursor.of(content.get(size - 1))
+                .encode();
+        return new CursorSlice<>(List.copyOf(content), size, true, nextCursor);
+    }
+
     public List<PullRequestReview> assign(String pullRequestUrl, List<String> assigneeList,
                                           List<String> assigneeExclusionList) {
         log.info("Assigning pull request {} to a developer with assignee list {} and assignee exclusion list {}",
                 pullRequestUrl, assigneeList, assigneeExclusionList);
+        return await(startAssignment(pullRequestUrl, assigneeList, assigneeExclusionList,
+                () -> pullRequestScoreComputer.computeScore(pullRequestUrl)));
+    }
+
+    @Transactional
+    public List<PullRequestAssignResult> assignBatch(List<PullRequestAssignRequest> requests) {
+        log.info("Assigning {} pull requests in batch", requests.size());
+        List<String> pullRequestUrls = requests.stream()
+                .map(PullRequestAssignRequest::getPullRequestUrl)
+                .toList();
+        Map<String, CompletableFuture<PullRequestAssessment>> assessments = pullRequestScoreComputer
+                .computeScores(pullRequestUrls);
+        return requests.stream()
+                .map(request -> assignBatched(request, assessments.get(request.getPullRequestUrl())))
+                .toList();
+    }
+
+    private PullRequestAssignResult assignBatched(PullRequestAssignRequest request,
+                                                  CompletableFuture<PullRequestAssessment> assessment) {
+        String pullRequestUrl = request.getPullRequestUrl();
+        try {
+            CompletableFuture<List<PullRequestReview>> assignment = startAssignment(pullRequestUrl,
+                    request.getAssigneeList(), request.getAssigneeExclusionList(), () -> await(assessment));
+            if (!assignment.isDone()) {
+                // The other assignment may be blocked on the developer rows locked by this transaction
+                throw new ConflictException(String.format("Pull request %s is already being assigned",
+                        pullRequestUrl));
+            }
+            return PullRequestAssignResult.success(pullRequestUrl, await(assignment));
+        } catch (RuntimeException e) {
+            log.error("Error while assigning pull request {} in batch", pullRequestUrl, e);
+            return PullRequestAssignResult.failure(pullRequestUrl, e.getMessage());
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    CompletableFuture<List<PullRequestReview>> startAssignment(String pullRequestUrl, List<String> assigneeList,
+                                                               List<String> assigneeExclusionList,
+                                                               Supplier<PullRequestAssessment> assessmentSupplier) {
+        String assignmentKey = getAssignmentKey(pullRequestUrl);
+        InFlightAssignment assignment = new InFlightAssignment(assigneeList, assigneeExclusionList);
+        InFlightAssignment existingAssignment = inFlightAssignments.putIfAbsent(assignmentKey, assignment);
+        if (existingAssignment != null) {
+            return joinAssignment(pullRequestUrl, existingAssignment, assignment);
+        }
+        try {
+            assignment.getResult()
+                    .complete(assignNow(pullRequestUrl, assigneeList, assigneeExclusionList, assessmentSupplier));
+        } catch (RuntimeException e) {
+            assignment.getResult()
+                    .completeExceptionally(e);
+        } finally {
+            releaseAfterCompletion(assignmentKey, assignment);
+        }
+        return assignment.getResult();
+    }
+
+    private void releaseAfterCompletion(String assignmentKey, InFlightAssignment assignment) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            inFlightAssignments.remove(assignmentKey, assignment);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            @Override
+            public void afterCompletion(int status) {
+                inFlightAssignments.remove(assignmentKey, assignment);
+            }
+
+        });
+    }
+
+    private CompletableFuture<List<PullRequestReview>> joinAssignment(String pullRequestUrl,
+                                                                      InFlightAssignment existingAssignment,
+                                                                      InFlightAssignment assignment) {
+        if (!existingAssignment.hasSameParameters(assignment)) {
+            throw new ConflictException(
+                    String.format("Pull request %s is already being assigned with different parameters",
+                            pullRequestUrl));
+        }
+        log.info("Pull request {} is already being assigned, joining the assignment", pullRequestUrl);
+        return existingAssignment.getResult();
+    }
+
+    private static String getAssignmentKey(String pullRequestUrl) {
+        try {
+            PullRequest pullRequest = PullRequest.fromUrl(pullRequestUrl);
+            String host = URI.create(pullRequestUrl)
+                    .getHost();
+            return String.format("%s/%s/%s/%d", host, pullRequest.getOwner(), pullRequest.getRepository(),
+                    pullRequest.getNumber())
+                    .toLowerCase(Locale.ROOT);
+        } catch (IllegalArgumentException e) {
+            // Invalid URLs are rejected later on, when computing the score
+            return pullRequestUrl;
+        }
+    }
+
+    private List<PullRequestReview> assignNow(String pullRequestUrl, List<String> assigneeList,
+                                              List<String> assigneeExclusionList,
+                                              Supplier<PullRequestAssessment> assessmentSupplier) {
         List<String> previouslyAssignedDevelopers = getPreviouslyAssignedDeveloperLogins(pullRequestUrl);
         assigneeExclusionList = merge(assigneeExclusionList, previouslyAssignedDevelopers);
         log.info("Assignee exclusion list updated with previously assigned developers: {}", assigneeExclusionList);
         verifyAssigneeList(assigneeList, previouslyAssignedDevelopers);
-        return assignInternal(pullRequestUrl, assigneeList, assigneeExclusionList);
-    }
-
-    private List<PullRequestReview> assignInternal(String pullRequestUrl, List<String> assigneeList,
-                                                   List<String> assigneeExclusionList) {
         List<Developer> assignees = getAssignees(assigneeList, assigneeExclusionList);
-        PullRequestAssessment assessment = pullRequestScoreComputer.computeScore(pullRequestUrl);
+        PullRequestAssessment assessment = assessmentSupplier.get();
         return assignees.stream()
                 .map(assignee -> createReview(assignee, assessment))
                 .toList();
@@ -127,8 +334,8 @@ public class PullRequestReviewService {
     }
 
     private PullRequestReview createReview(Developer developer, PullRequestAssessment assessment) {
-        Developer developerWithIncreasedScore = developer.withScore(developer.getScore() + assessment.getScore());
-        developerService.saveDeveloper(developerWithIncreasedScore);
+        Developer developerWithIncreasedScore = developerService.addToScoreAndGet(developer.getLogin(),
+                assessment.getScore());
         PullRequestReview pullRequestReview = PullRequestReview.builder()
                 .multiplier(assessment.getMultiplier())
                 .pullRequestUrl(assessment.getPullRequestUrl())
@@ -141,9 +348,22 @@ public class PullRequestReviewService {
     }
 
     private void decreaseDeveloperScore(PullRequestReview review) {
-        Developer developer = review.getDeveloper();
-        Developer developerWithDecreasedScore = developer.withScore(developer.getScore() - review.getScore());
-        developerService.saveDeveloper(developerWithDecreasedScore);
+        developerService.addToScore(review.getDeveloper()
+                .getLogin(), -review.getScore());
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class InFlightAssignment {
+
+        private final List<String> assigneeList;
+        private final List<String> assigneeExclusionList;
+        private final CompletableFuture<List<PullRequestReview>> result = new CompletableFuture<>();
+
+        boolean hasSameParameters(InFlightAssignment other) {
+            return assigneeList.equals(other.assigneeList) && assigneeExclusionList.equals(other.assigneeExclusionList);
+        }
+
     }
 
 }
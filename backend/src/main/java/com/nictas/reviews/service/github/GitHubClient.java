@@ -3,6 +3,8 @@ package com.nictas.reviews.service.github;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.kohsuke.github.GHMyself;
 import org.kohsuke.github.GHOrganization;
@@ -26,9 +28,15 @@ public class GitHubClient {
     static final String ORGANIZATION_ROLE_ADMIN = "admin";
 
     private final GitHub delegate;
+    private final GitHubUserEmailCache userEmailCache;
 
     public GitHubClient(GitHub delegate) {
+        this(delegate, null);
+    }
+
+    public GitHubClient(GitHub delegate, GitHubUserEmailCache userEmailCache) {
         this.delegate = delegate;
+        this.userEmailCache = userEmailCache;
     }
 
     GitHub getDelegate() {
@@ -36,13 +44,33 @@ public class GitHubClient {
     }
 
     public PullRequestFileDetails getPullRequestInfo(PullRequest pullRequest) {
-        log.info("Getting info for PR: {}/{}/{}", pullRequest.getOwner(), pullRequest.getRepository(),
+        GHPullRequest ghPullRequest;
+        try {
+            ghPullRequest = getGHPullRequest(pullRequest);
+        } catch (IOException e) {
+            throw new GitHubClientException(String.format("Error while fetching info for PR %s/%s/%d: %s",
+                    pullRequest.getOwner(), pullRequest.getRepository(), pullRequest.getNumber(), e.getMessage()), e);
+        }
+        return getPullRequestInfo(pullRequest, ghPullRequest);
+    }
+
+    public PullRequestHead getPullRequestHead(PullRequest pullRequest) {
+        log.info("Getting head commit for PR: {}/{}/{}", pullRequest.getOwner(), pullRequest.getRepository(),
                 pullRequest.getNumber());
         try {
-            GHRepository repository = delegate
-                    .getRepository(pullRequest.getOwner() + "/" + pullRequest.getRepository());
-            GHPullRequest ghPullRequest = repository.getPullRequest(pullRequest.getNumber());
+            GHPullRequest ghPullRequest = getGHPullRequest(pullRequest);
+            return new PullRequestHead(ghPullRequest.getHead()
+                    .getSha(), () -> getPullRequestInfo(pullRequest, ghPullRequest));
+        } catch (IOException e) {
+            throw new GitHubClientException(String.format("Error while fetching head commit for PR %s/%s/%d: %s",
+                    pullRequest.getOwner(), pullRequest.getRepository(), pullRequest.getNumber(), e.getMessage()), e);
+        }
+    }
 
+    private PullRequestFileDetails getPullRequestInfo(PullRequest pullRequest, GHPullRequest ghPullRequest) {
+        log.info("Getting info for PR: {}/{}/{}", pullRequest.getOwner(), pullRequest.getRepository(),
+                pullRequest.getNumber());
+        try {
             List<PullRequestFileDetails.ChangedFile> changedFiles = new ArrayList<>();
             for (GHPullRequestFileDetail file : ghPullRequest.listFiles()
                     .toList()) {
@@ -63,6 +91,11 @@ public class GitHubClient {
         }
     }
 
+    private GHPullRequest getGHPullRequest(PullRequest pullRequest) throws IOException {
+        GHRepository repository = delegate.getRepository(pullRequest.getOwner() + "/" + pullRequest.getRepository());
+        return repository.getPullRequest(pullRequest.getNumber());
+    }
+
     public List<Developer> getDevelopers(String organizationName, String teamName) {
         log.info("Getting developers for organization {} and team {}", organizationName, teamName);
         try {
@@ -74,11 +107,8 @@ public class GitHubClient {
                         String.format("Unable to find team %s in organization: %s", teamName, organizationName));
             }
 
-            return team.listMembers()
-                    .toList()
-                    .stream()
-                    .map(this::toDeveloper)
-                    .toList();
+            return toDevelopers(team.listMembers()
+                    .toList());
         } catch (IOException e) {
             throw new GitHubClientException(
                     String.format("Error while fetching GitHub users from organization %s and team %s: %s",
@@ -90,11 +120,8 @@ public class GitHubClient {
     public List<Developer> getOrganizationAdmins(String organizationName) {
         try {
             GHOrganization organization = delegate.getOrganization(organizationName);
-            return organization.listMembersWithRole(ORGANIZATION_ROLE_ADMIN)
-                    .toList()
-                    .stream()
-                    .map(this::toDeveloper)
-                    .toList();
+            return toDevelopers(organization.listMembersWithRole(ORGANIZATION_ROLE_ADMIN)
+                    .toList());
         } catch (IOException e) {
             throw new GitHubClientException(String.format("Error while fetching GitHub users from organization %s: %s",
                     organizationName, e.getMessage()), e);
@@ -110,9 +137,26 @@ public class GitHubClient {
         }
     }
 
+    private List<Developer> toDevelopers(List<GHUser> users) {
+        if (userEmailCache == null) {
+            return users.stream()
+                    .map(this::toDeveloper)
+                    .toList();
+        }
+        Map<String, Optional<String>> emails = userEmailCache.getEmails(users, this::getEmail);
+        return users.stream()
+                .map(user -> new Developer(user.getLogin(), emails.get(user.getLogin())
+                        .orElse(null)))
+                .toList();
+    }
+
     private Developer toDeveloper(GHUser user) {
+        return new Developer(user.getLogin(), getEmail(user));
+    }
+
+    private String getEmail(GHUser user) {
         try {
-            return new Developer(user.getLogin(), user.getEmail());
+            return user.getEmail();
         } catch (IOException e) {
             throw new GitHubClientException(
                     String.format("Error while fetching email of user %s: %s", user.getLogin(), e.getMessage()), e);
@@ -1,5 +1,9 @@
 package com.nictas.reviews.service.github;
 
+import java.net.HttpURLConnection;
+
+import org.kohsuke.github.HttpException;
+
 public class GitHubClientException extends RuntimeException {
 
     private static final long serialVersionUID = 1L;
@@ -12,4 +16,9 @@ public class GitHubClientException extends RuntimeException {
         super(message);
     }
 
+    public boolean isUnauthorized() {
+        return getCause() instanceof HttpException httpException
+                && httpException.getResponseCode() == HttpURLConnection.HTTP_UNAUTHORIZED;
+    }
+
 }
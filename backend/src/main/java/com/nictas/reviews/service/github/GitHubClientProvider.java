@@ -1,66 +1,179 @@
 package com.nictas.reviews.service.github;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.BiFunction;
 
 import org.kohsuke.github.GitHub;
 import org.kohsuke.github.GitHubBuilder;
+import org.kohsuke.github.extras.okhttp3.OkHttpGitHubConnector;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nictas.reviews.service.github.settings.GitHubHostOptions;
 import com.nictas.reviews.service.github.settings.GitHubSettings;
 import com.nictas.reviews.service.github.settings.GitHubSettingsProvider;
+import com.nictas.reviews.util.HashUtils;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
 
 @Slf4j
 @Component
 public class GitHubClientProvider {
 
+    static final String GITHUB_ENTERPRISE_REST_ENDPOINT = "/api/v3";
+    static final String GITHUB_ENTERPRISE_GRAPHQL_ENDPOINT = "/api/graphql";
+    static final String GITHUB_GRAPHQL_ENDPOINT = "/graphql";
+    static final String TOKEN_CLIENTS_CACHE_NAME = "github-token-clients";
+
     private final GitHubSettingsProvider settingsProvider;
-    private final BiFunction<String, String, GitHub> delegateConstructor;
+    private final DelegateConstructor delegateConstructor;
     private final Map<String, GitHubClient> clientCache;
+    private final OkHttpClient baseHttpClient;
+    private final Map<String, OkHttpClient> httpClientCache;
+    private final Map<String, OkHttpClient> tokenHttpClientCache;
+    private final Map<String, ConnectionPool> connectionPools;
+    private final Map<String, Cache<String, GitHubClient>> tokenClientCaches;
+    private final Map<String, GitHubUserEmailCache> userEmailCaches;
+    private final MeterRegistry meterRegistry;
 
     @Autowired
-    public GitHubClientProvider(GitHubSettingsProvider settingsProvider) {
-        this(settingsProvider, GitHubClientProvider::createDelegate);
+    public GitHubClientProvider(GitHubSettingsProvider settingsProvider, MeterRegistry meterRegistry) {
+        this(settingsProvider, GitHubClientProvider::createDelegate, meterRegistry);
     }
 
-    GitHubClientProvider(GitHubSettingsProvider settingsProvider,
-                         BiFunction<String, String, GitHub> delegateConstructor) {
+    GitHubClientProvider(GitHubSettingsProvider settingsProvider, DelegateConstructor delegateConstructor,
+                         MeterRegistry meterRegistry) {
         this.settingsProvider = settingsProvider;
         this.delegateConstructor = delegateConstructor;
         this.clientCache = new ConcurrentHashMap<>();
+        this.baseHttpClient = new OkHttpClient();
+        this.httpClientCache = new ConcurrentHashMap<>();
+        this.tokenHttpClientCache = new ConcurrentHashMap<>();
+        this.connectionPools = new ConcurrentHashMap<>();
+        this.tokenClientCaches = new ConcurrentHashMap<>();
+        this.userEmailCaches = new ConcurrentHashMap<>();
+        this.meterRegistry = meterRegistry;
     }
 
     public GitHubClient getClientForUrl(String url) {
         GitHubSettings settings = settingsProvider.getSettingsForUrl(url);
         log.debug("Received settings for URL: {}", settings);
-        return clientCache.computeIfAbsent(settings.getUrl(),
-                unused -> createClient(settings.getApi(), settings.getToken()));
+        return clientCache.computeIfAbsent(settings.getUrl(), unused -> createClient(settings, settings.getToken()));
     }
 
     public GitHubClient getClientForUrl(String url, String token) {
         GitHubSettings settings = settingsProvider.getSettingsForUrl(url);
         log.debug("Received settings for URL: {}", settings);
-        return createClient(settings.getApi(), token);
+        return getTokenClientCache(settings).get(HashUtils.sha256(token),
+                unused -> createClient(settings, token));
+    }
+
+    private Cache<String, GitHubClient> getTokenClientCache(GitHubSettings settings) {
+        return tokenClientCaches.computeIfAbsent(settings.getUrl(), unused -> createTokenClientCache(settings));
+    }
+
+    private Cache<String, GitHubClient> createTokenClientCache(GitHubSettings settings) {
+        GitHubHostOptions options = settings.getOptions();
+        Cache<String, GitHubClient> cache = Caffeine.newBuilder()
+                .maximumSize(options.getTokenClientCacheSize())
+                .expireAfterAccess(options.getTokenClientExpireAfterAccess())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, TOKEN_CLIENTS_CACHE_NAME, "host", settings.getUrl());
+        return cache;
+    }
+
+    private GitHubClient createClient(GitHubSettings settings, String token) {
+        log.debug("Creating GitHub client for URL: {}", settings.getApi());
+        OkHttpClient httpClient = getHttpClient(settings, token);
+        GitHub delegate = delegateConstructor.create(settings, token, httpClient);
+        if (settings.getOptions()
+                .isGraphQl()) {
+            return new GitHubGraphQlClient(delegate, getUserEmailCache(settings), httpClient,
+                    getGraphQlEndpoint(settings), token);
+        }
+        return new GitHubClient(delegate, getUserEmailCache(settings));
+    }
+
+    private GitHubUserEmailCache getUserEmailCache(GitHubSettings settings) {
+        GitHubHostOptions options = settings.getOptions();
+        return userEmailCaches.computeIfAbsent(settings.getUrl(), unused -> new GitHubUserEmailCache(
+                options.getUserEmailCacheExpiration(), options.getUserEmailFetchConcurrency()));
     }
 
-    private GitHubClient createClient(String apiUrl, String token) {
-        log.debug("Creating GitHub client for URL: {}", apiUrl);
-        return new GitHubClient(delegateConstructor.apply(apiUrl, token));
+    @PreDestroy
+    public void close() {
+        userEmailCaches.values()
+                .forEach(GitHubUserEmailCache::close);
     }
 
-    private static GitHub createDelegate(String apiUrl, String token) {
+    static String getGraphQlEndpoint(GitHubSettings settings) {
+        String api = settings.getApi();
+        if (api.endsWith(GITHUB_ENTERPRISE_REST_ENDPOINT)) {
+            return api.substring(0, api.length() - GITHUB_ENTERPRISE_REST_ENDPOINT.length())
+                    + GITHUB_ENTERPRISE_GRAPHQL_ENDPOINT;
+        }
+        return api + GITHUB_GRAPHQL_ENDPOINT;
+    }
+
+    private static GitHub createDelegate(GitHubSettings settings, String token, OkHttpClient httpClient) {
         try {
-            return new GitHubBuilder().withEndpoint(apiUrl)
+            return new GitHubBuilder().withEndpoint(settings.getApi())
                     .withOAuthToken(token)
+                    .withConnector(new OkHttpGitHubConnector(httpClient))
                     .build();
         } catch (IOException e) {
-            throw new IllegalStateException("Unable to create GitHub client for URL: " + apiUrl);
+            throw new IllegalStateException("Unable to create GitHub client for URL: " + settings.getApi());
+        }
+    }
+
+    private OkHttpClient getHttpClient(GitHubSettings settings, String token) {
+        // Only the shared client of a host uses the HTTP cache and the rate limit governor, so cached responses are
+        // never served across tokens and the governor only tracks the budget of the service token
+        return token.equals(settings.getToken()) ? getHttpClient(settings) : getTokenHttpClient(settings);
+    }
+
+    OkHttpClient getTokenHttpClient(GitHubSettings settings) {
+        return tokenHttpClientCache.computeIfAbsent(settings.getUrl(), unused -> baseHttpClient.newBuilder()
+                .connectionPool(getConnectionPool(settings))
+                .build());
+    }
+
+    private ConnectionPool getConnectionPool(GitHubSettings settings) {
+        return connectionPools.computeIfAbsent(settings.getUrl(), unused -> new ConnectionPool());
+    }
+
+    OkHttpClient getHttpClient(GitHubSettings settings) {
+        return httpClientCache.computeIfAbsent(settings.getUrl(), unused -> createHttpClient(settings));
+    }
+
+    private OkHttpClient createHttpClient(GitHubSettings settings) {
+        GitHubHostOptions options = settings.getOptions();
+        OkHttpClient.Builder builder = baseHttpClient.newBuilder()
+                .connectionPool(getConnectionPool(settings))
+                .addInterceptor(new GitHubRateLimitGovernor(settings.getUrl(), options.getRateLimitReserve(),
+                        options.getRateLimitPacingThreshold(), meterRegistry));
+        if (options.getHttpCacheDirectory() != null) {
+            log.info("Using HTTP cache in {} with a maximum size of {} bytes", options.getHttpCacheDirectory(),
+                    options.getHttpCacheSize());
+            builder.cache(new okhttp3.Cache(new File(options.getHttpCacheDirectory()), options.getHttpCacheSize()));
         }
+        return builder.build();
+    }
+
+    interface DelegateConstructor {
+
+        GitHub create(GitHubSettings settings, String token, OkHttpClient httpClient);
+
     }
 
 }
@@ -0,0 +1,266 @@
+package com.nictas.reviews.service.github;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.kohsuke.github.GitHub;
+import org.kohsuke.github.HttpException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nictas.reviews.domain.Developer;
+import com.nictas.reviews.domain.PullRequest;
+import com.nictas.reviews.domain.PullRequestFileDetails;
+import com.nictas.reviews.domain.PullRequestFileDetails.ChangedFile;
+
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+@Slf4j
+public class GitHubGraphQlClient extends GitHubClient {
+
+    static final int PAGE_SIZE = 100;
+
+    private static final MediaType JSON = MediaType.get("application/json");
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final String PULL_REQUEST_QUERY = """
+            query($owner: String!, $repository: String!, $number: Int!, $pageSize: Int!, $cursor: String) {
+              repository(owner: $owner, name: $repository) {
+                pullRequest(number: $number) {
+                  additions
+                  deletions
+                  headRefOid
+                  files(first: $pageSize, after: $cursor) {
+                    nodes { path additions deletions }
+                    pageInfo { hasNextPage endCursor }
+                  }
+                }
+              }
+            }""";
+
+    private static final String PULL_REQUEST_HEAD_QUERY = """
+            query($owner: String!, $repository: String!, $number: Int!) {
+              repository(owner: $owner, name: $repository) {
+                pullRequest(number: $number) { headRefOid }
+              }
+            }""";
+
+    private static final String TEAMS_QUERY = """
+            query($organization: String!, $team: String!, $pageSize: Int!) {
+              organization(login: $organization) {
+                teams(query: $team, first: $pageSize) {
+                  nodes { name slug }
+                }
+              }
+            }""";
+
+    private static final String TEAM_MEMBERS_QUERY = """
+            query($organization: String!, $slug: String!, $pageSize: Int!, $cursor: String) {
+              organization(login: $organization) {
+                team(slug: $slug) {
+                  members(first: $pageSize, after: $cursor) {
+                    nodes { login email }
+                    pageInfo { hasNextPage endCursor }
+                  }
+                }
+              }
+            }""";
+
+    private static final String VIEWER_QUERY = """
+            query {
+              viewer { login email }
+            }""";
+
+    private final OkHttpClient httpClient;
+    private final String endpoint;
+    private final String token;
+
+    public GitHubGraphQlClient(GitHub delegate, GitHubUserEmailCache userEmailCache, OkHttpClient httpClient,
+                               String endpoint, String token) {
+        super(delegate, userEmailCache);
+        this.httpClient = httpClient;
+        this.endpoint = endpoint;
+        this.token = token;
+    }
+
+    @Override
+    public PullRequestFileDetails getPullRequestInfo(PullRequest pullRequest) {
+        log.info("Getting info for PR: {}/{}/{}", pullRequest.getOwner(), pullRequest.getRepository(),
+                pullRequest.getNumber());
+        try {
+            Map<String, Object> variables = getPullRequestVariables(pullRequest);
+            List<ChangedFile> changedFiles = new ArrayList<>();
+            JsonNode data = paginate(PULL_REQUEST_QUERY, variables,
+                    pageData -> getPullRequestNode(pageData, pullRequest).path("files"),
+                    files -> files.path("nodes")
+                            .forEach(file -> changedFiles.add(ChangedFile.builder()
+                                    .name(file.path("path")
+                                            .asText())
+                                    .additions(file.path("additions")
+                                            .asInt())
+                                    .deletions(file.path("deletions")
+                                            .asInt())
+                                    .build())));
+            JsonNode pullRequestNode = getPullRequestNode(data, pullRequest);
+            int additions = pullRequestNode.path("additions")
+                    .asInt();
+            int deletions = pullRequestNode.path("deletions")
+                    .asInt();
+            return new PullRequestFileDetails(additions, deletions, changedFiles);
+        } catch (IOException e) {
+            throw new GitHubClientException(String.format("Error while fetching info for PR %s/%s/%d: %s",
+                    pullRequest.getOwner(), pullRequest.getRepository(), pullRequest.getNumber(), e.getMessage()), e);
+        }
+    }
+
+    @Override
+    public PullRequestHead getPullRequestHead(PullRequest pullRequest) {
+        log.info("Getting head commit for PR: {}/{}/{}", pullRequest.getOwner(), pullRequest.getRepository(),
+                pullRequest.getNumber());
+        try {
+            JsonNode data = execute(PULL_REQUEST_HEAD_QUERY, getPullRequestVariables(pullRequest));
+            return new PullRequestHead(getPullRequestNode(data, pullRequest).path("headRefOid")
+                    .asText(null), () -> getPullRequestInfo(pullRequest));
+        } catch (IOException e) {
+            throw new GitHubClientException(String.format("Error while fetching head commit for PR %s/%s/%d: %s",
+                    pullRequest.getOwner(), pullRequest.getRepository(), pullRequest.getNumber(), e.getMessage()), e);
+        }
+    }
+
+    @Override
+    public List<Developer> getDevelopers(String organizationName, String teamName) {
+        log.info("Getting developers for organization {} and team {}", organizationName, teamName);
+        try {
+            String teamSlug = getTeamSlug(organizationName, teamName);
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("organization", organizationName);
+            variables.put("slug", teamSlug);
+            List<Developer> developers = new ArrayList<>();
+            paginate(TEAM_MEMBERS_QUERY, variables, data -> data.path("organization")
+                    .path("team")
+                    .path("members"),
+                    members -> members.path("nodes")
+                            .forEach(member -> developers.add(toDeveloper(member))));
+            return developers;
+        } catch (IOException e) {
+            throw new GitHubClientException(
+                    String.format("Error while fetching GitHub users from organization %s and team %s: %s",
+                            organizationName, teamName, e.getMessage()),
+                    e);
+        }
+    }
+
+    @Override
+    public Developer getMyself() {
+        try {
+            JsonNode data = execute(VIEWER_QUERY, Map.of());
+            return toDeveloper(data.path("viewer"));
+        } catch (IOException e) {
+            throw new GitHubClientException(String.format("Error while fetching GitHub user: %s", e.getMessage()), e);
+        }
+    }
+
+    private String getTeamSlug(String organizationName, String teamName) throws IOException {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("organization", organizationName);
+        variables.put("team", teamName);
+        variables.put("pageSize", PAGE_SIZE);
+        JsonNode data = execute(TEAMS_QUERY, variables);
+        for (JsonNode team : data.path("organization")
+                .path("teams")
+                .path("nodes")) {
+            if (teamName.equals(team.path("name")
+                    .asText())) {
+                return team.path("slug")
+                        .asText();
+            }
+        }
+        throw new GitHubClientException(
+                String.format("Unable to find team %s in organization: %s", teamName, organizationName));
+    }
+
+    private Map<String, Object> getPullRequestVariables(PullRequest pullRequest) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("owner", pullRequest.getOwner());
+        variables.put("repository", pullRequest.getRepository());
+        variables.put("number", pullRequest.getNumber());
+        return variables;
+    }
+
+    private JsonNode getPullRequestNode(JsonNode data, PullRequest pullRequest) throws IOException {
+        JsonNode pullRequestNode = data.path("repository")
+                .path("pullRequest");
+        if (!pullRequestNode.isObject()) {
+            throw new IOException(String.format("Pull request %s/%s/%d not found", pullRequest.getOwner(),
+                    pullRequest.getRepository(), pullRequest.getNumber()));
+        }
+        return pullRequestNode;
+    }
+
+    private JsonNode paginate(String query, Map<String, Object> variables, PageSelector pageSelector,
+                              Consumer<JsonNode> pageConsumer)
+            throws IOException {
+        Map<String, Object> pageVariables = new HashMap<>(variables);
+        pageVariables.put("pageSize", PAGE_SIZE);
+        while (true) {
+            JsonNode data = execute(query, pageVariables);
+            JsonNode page = pageSelector.select(data);
+            pageConsumer.accept(page);
+            JsonNode pageInfo = page.path("pageInfo");
+            if (!pageInfo.path("hasNextPage")
+                    .asBoolean()) {
+                return data;
+            }
+            pageVariables.put("cursor", pageInfo.path("endCursor")
+                    .asText());
+        }
+    }
+
+    private JsonNode execute(String query, Map<String, Object> variables) throws IOException {
+        byte[] body = OBJECT_MAPPER.writeValueAsBytes(Map.of("query", query, "variables", variables));
+        Request request = new Request.Builder().url(endpoint)
+                .header("Authorization", "Bearer " + token)
+                .post(RequestBody.create(body, JSON))
+                .build();
+        try (Response response = httpClient.newCall(request)
+                .execute()) {
+            ResponseBody responseBody = response.body();
+            if (!response.isSuccessful() || responseBody == null) {
+                throw new HttpException(String.format("GraphQL request failed with status %d", response.code()),
+                        response.code(), response.message(), endpoint);
+            }
+            JsonNode tree = OBJECT_MAPPER.readTree(responseBody.byteStream());
+            JsonNode errors = tree.path("errors");
+            if (errors.isArray() && !errors.isEmpty()) {
+                throw new IOException(errors.get(0)
+                        .path("message")
+                        .asText());
+            }
+            return tree.path("data");
+        }
+    }
+
+    private Developer toDeveloper(JsonNode user) {
+        String email = user.path("email")
+                .asText("");
+        return new Developer(user.path("login")
+                .asText(), email.isEmpty() ? null : email);
+    }
+
+    private interface PageSelector {
+
+        JsonNode select(JsonNode data) throws IOException;
+
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.nictas.reviews.service.github;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+@Slf4j
+public class GitHubRateLimitGovernor implements Interceptor {
+
+    static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    static final String RESET_HEADER = "X-RateLimit-Reset";
+    static final String RESOURCE_HEADER = "X-RateLimit-Resource";
+    static final String CORE_RESOURCE = "core";
+    static final String GRAPHQL_RESOURCE = "graphql";
+    static final Duration MAX_PACING_DELAY = Duration.ofSeconds(5);
+
+    private final String host;
+    private final double reserve;
+    private final double pacingThreshold;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Sleeper sleeper;
+    private final Map<String, Budget> budgets = new ConcurrentHashMap<>();
+
+    public GitHubRateLimitGovernor(String host, double reserve, double pacingThreshold, MeterRegistry meterRegistry) {
+        this(host, reserve, pacingThreshold, meterRegistry, Clock.systemUTC(), Thread::sleep);
+    }
+
+    GitHubRateLimitGovernor(String host, double reserve, double pacingThreshold, MeterRegistry meterRegistry,
+                            Clock clock, Sleeper sleeper) {
+        this.host = host;
+        this.reserve = reserve;
+        this.pacingThreshold = pacingThreshold;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.sleeper = sleeper;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        if (GitHubRequestPriority.current() == GitHubRequestPriority.BACKGROUND) {
+            awaitBudget(getResource(request));
+        }
+        Response response = chain.proceed(request);
+        update(request, response);
+        return response;
+    }
+
+    private void awaitBudget(String resource) throws IOException {
+        Budget budget = budgets.get(resource);
+        if (budget == null) {
+            return;
+        }
+        long limit = budget.limit.get();
+        long remaining = budget.remaining.get();
+        long secondsUntilReset = budget.reset.get() - clock.instant()
+                .getEpochSecond();
+        if (secondsUntilReset <= 0) {
+            return;
+        }
+        long reserved = (long) Math.ceil(limit * reserve);
+        if (remaining <= reserved) {
+            throw new IOException(String.format(
+                    "Deferring background request to %s: only %d of %d %s requests are left until %s", host,
+                    remaining, limit, resource, Instant.ofEpochSecond(budget.reset.get())));
+        }
+        if (remaining < limit * pacingThreshold) {
+            long delay = Math.min(MAX_PACING_DELAY.toMillis(), secondsUntilReset * 1000 / (remaining - reserved));
+            log.debug("Pacing background request to {} by {} ms, {} of {} {} requests left", host, delay, remaining,
+                    limit, resource);
+            sleep(delay);
+        }
+    }
+
+    private void sleep(long millis) throws InterruptedIOException {
+        try {
+            sleeper.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                    .interrupt();
+            throw new InterruptedIOException("Interrupted while pacing background request to " + host);
+        }
+    }
+
+    private void update(Request request, Response response) {
+        String limit = response.header(LIMIT_HEADER);
+        String remaining = response.header(REMAINING_HEADER);
+        String reset = response.header(RESET_HEADER);
+        if (limit == null || remaining == null || reset == null) {
+            return;
+        }
+        String resource = response.header(RESOURCE_HEADER, getResource(request));
+        try {
+            Budget budget = budgets.computeIfAbsent(resource, this::createBudget);
+            budget.limit.set(Long.parseLong(limit));
+            budget.remaining.set(Long.parseLong(remaining));
+            budget.reset.set(Long.parseLong(reset));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed rate limit headers from {}: {}", host, e.getMessage());
+        }
+    }
+
+    private Budget createBudget(String resource) {
+        Budget budget = new Budget();
+        if (meterRegistry != null) {
+            Gauge.builder("github.rate-limit.limit", budget.limit, AtomicLong::get)
+                    .tags("host", host, "resource", resource)
+                    .register(meterRegistry);
+            Gauge.builder("github.rate-limit.remaining", budget.remaining, AtomicLong::get)
+                    .tags("host", host, "resource", resource)
+                    .register(meterRegistry);
+            Gauge.builder("github.rate-limit.reset", budget.reset, AtomicLong::get)
+                    .tags("host", host, "resource", resource)
+                    .register(meterRegistry);
+        }
+        return budget;
+    }
+
+    private static String getResource(Request request) {
+        return request.url()
+                .encodedPath()
+                .endsWith(GitHubClientProvider.GITHUB_GRAPHQL_ENDPOINT) ? GRAPHQL_RESOURCE : CORE_RESOURCE;
+    }
+
+    private static class Budget {
+
+        private final AtomicLong limit = new AtomicLong();
+        private final AtomicLong remaining = new AtomicLong();
+        private final AtomicLong reset = new AtomicLong();
+
+    }
+
+    @FunctionalInterface
+    interface Sleeper {
+
+        void sleep(long millis) throws InterruptedException;
+
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.nictas.reviews.service.github;
+
+import java.util.function.Supplier;
+
+public enum GitHubRequestPriority {
+
+    INTERACTIVE, BACKGROUND;
+
+    private static final ThreadLocal<GitHubRequestPriority> CURRENT = ThreadLocal.withInitial(() -> INTERACTIVE);
+
+    public static GitHubRequestPriority current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T runInBackground(Supplier<T> supplier) {
+        return runWith(BACKGROUND, supplier);
+    }
+
+    public static <T> T runWith(GitHubRequestPriority priority, Supplier<T> supplier) {
+        GitHubRequestPriority previous = CURRENT.get();
+        CURRENT.set(priority);
+        try {
+            return supplier.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+
+}
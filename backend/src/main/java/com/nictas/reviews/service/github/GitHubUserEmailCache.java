@@ -0,0 +1,86 @@
+package com.nictas.reviews.service.github;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.kohsuke.github.GHUser;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class GitHubUserEmailCache implements AutoCloseable {
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final Cache<String, Optional<String>> emails;
+    private final ExecutorService executor;
+
+    public GitHubUserEmailCache(Duration expireAfterWrite, int concurrency) {
+        this.emails = Caffeine.newBuilder()
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(concurrency, concurrency, 1, TimeUnit.MINUTES,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "github-user-email-" + THREAD_COUNTER.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        this.executor = threadPoolExecutor;
+    }
+
+    public Map<String, Optional<String>> getEmails(Collection<GHUser> users, Function<GHUser, String> emailFetcher) {
+        Map<String, GHUser> usersByLogin = new LinkedHashMap<>();
+        users.forEach(user -> usersByLogin.putIfAbsent(user.getLogin(), user));
+        return emails.getAll(usersByLogin.keySet(), logins -> fetchEmails(logins, usersByLogin, emailFetcher));
+    }
+
+    private Map<String, Optional<String>> fetchEmails(Set<? extends String> logins, Map<String, GHUser> usersByLogin,
+                                                      Function<GHUser, String> emailFetcher) {
+        log.info("Fetching emails of {} users", logins.size());
+        GitHubRequestPriority priority = GitHubRequestPriority.current();
+        Map<String, CompletableFuture<Optional<String>>> futures = new HashMap<>();
+        for (String login : logins) {
+            GHUser user = usersByLogin.get(login);
+            futures.put(login, CompletableFuture.supplyAsync(
+                    () -> GitHubRequestPriority.runWith(priority, () -> Optional.ofNullable(emailFetcher.apply(user))),
+                    executor));
+        }
+        Map<String, Optional<String>> fetchedEmails = new HashMap<>();
+        futures.forEach((login, future) -> fetchedEmails.put(login, await(future)));
+        return fetchedEmails;
+    }
+
+    private Optional<String> await(CompletableFuture<Optional<String>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.nictas.reviews.service.github;
+
+import java.util.function.Supplier;
+
+import com.nictas.reviews.domain.PullRequestFileDetails;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class PullRequestHead {
+
+    private final String sha;
+    @Getter(AccessLevel.NONE)
+    private final Supplier<PullRequestFileDetails> infoLoader;
+
+    public PullRequestFileDetails getInfo() {
+        return infoLoader.get();
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.nictas.reviews.service.github;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nictas.reviews.domain.PullRequest;
+import com.nictas.reviews.domain.PullRequestFileDetails;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class PullRequestInfoCache {
+
+    static final String CACHE_NAME = "pull-request-info";
+
+    private final Cache<PullRequestRevision, PullRequestFileDetails> cache;
+
+    @Autowired
+    public PullRequestInfoCache(MeterRegistry meterRegistry,
+                                @Value("${pull-requests.info-cache.maximum-size}") long maximumSize,
+                                @Value("${pull-requests.info-cache.expire-after-write}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public PullRequestFileDetails getPullRequestInfo(GitHubClient client, String pullRequestUrl,
+                                                     PullRequest pullRequest) {
+        PullRequestHead head = client.getPullRequestHead(pullRequest);
+        if (head.getSha() == null) {
+            log.warn("Could not determine head commit of PR {}, skipping cache", pullRequestUrl);
+            return head.getInfo();
+        }
+        PullRequestRevision revision = new PullRequestRevision(getHost(pullRequestUrl),
+                pullRequest.getOwner()
+                        .toLowerCase(Locale.ROOT),
+                pullRequest.getRepository()
+                        .toLowerCase(Locale.ROOT),
+                pullRequest.getNumber(), head.getSha());
+        return cache.get(revision, unused -> head.getInfo());
+    }
+
+    private static String getHost(String pullRequestUrl) {
+        String host = URI.create(pullRequestUrl)
+                .getHost();
+        return host == null ? "" : host.toLowerCase(Locale.ROOT);
+    }
+
+    @Data
+    private static class PullRequestRevision {
+
+        private final String host;
+        private final String owner;
+        private final String repository;
+        private final int number;
+        private final String headSha;
+
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.nictas.reviews.service.github.settings;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+
+@Data
+@Builder
+@Jacksonized
+public class GitHubHostOptions {
+
+    public static final GitHubHostOptions DEFAULT = GitHubHostOptions.builder()
+            .build();
+
+    private final String httpCacheDirectory;
+    @Builder.Default
+    private final long httpCacheSize = 50L * 1024 * 1024;
+    private final boolean graphQl;
+    @Builder.Default
+    private final Duration userEmailCacheExpiration = Duration.ofHours(24);
+    @Builder.Default
+    private final int userEmailFetchConcurrency = 8;
+    @Builder.Default
+    private final long tokenClientCacheSize = 1000;
+    @Builder.Default
+    private final Duration tokenClientExpireAfterAccess = Duration.ofMinutes(10);
+    @Builder.Default
+    private final double rateLimitReserve = 0.2;
+    @Builder.Default
+    private final double rateLimitPacingThreshold = 0.5;
+
+}
@@ -1,18 +1,24 @@
 package com.nictas.reviews.service.github.settings;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 @Data
 @Builder
-@RequiredArgsConstructor
+@AllArgsConstructor
 public class GitHubSettings {
 
     private final String url;
     private final String api;
     @ToString.Exclude
     private final String token;
+    @Builder.Default
+    private final GitHubHostOptions options = GitHubHostOptions.DEFAULT;
+
+    public GitHubSettings(String url, String api, String token) {
+        this(url, api, token, GitHubHostOptions.DEFAULT);
+    }
 
 }
@@ -22,11 +22,18 @@ public class GitHubSettingsProvider {
 
     private ObjectMapper objectMapper;
     private Map<String, String> gitHubTokens;
+    private Map<String, GitHubHostOptions> gitHubOptions;
+
+    GitHubSettingsProvider(ObjectMapper objectMapper, String gitHubTokensJson) {
+        this(objectMapper, gitHubTokensJson, "{}");
+    }
 
     @Autowired
-    public GitHubSettingsProvider(ObjectMapper objectMapper, @Value("${github.tokens}") String gitHubTokensJson) {
+    public GitHubSettingsProvider(ObjectMapper objectMapper, @Value("${github.tokens}") String gitHubTokensJson,
+                                  @Value("${github.options:{}}") String gitHubOptionsJson) {
         this.objectMapper = objectMapper;
         this.gitHubTokens = deserializeGitHubToken(gitHubTokensJson);
+        this.gitHubOptions = deserializeGitHubOptions(gitHubOptionsJson);
     }
 
     private Map<String, String> deserializeGitHubToken(String json) {
@@ -37,6 +44,14 @@ public class GitHubSettingsProvider {
         }
     }
 
+    private Map<String, GitHubHostOptions> deserializeGitHubOptions(String json) {
+        try {
+            return objectMapper.readValue(json, new TypeReference<Map<String, GitHubHostOptions>>() {});
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to deserialize GitHub options JSON: " + e.getMessage(), e);
+        }
+    }
+
     public GitHubSettings getSettingsForUrl(String url) {
         log.info("Getting settings for URL: {}", url);
         for (Map.Entry<String, String> gitHubToken : gitHubTokens.entrySet()) {
@@ -53,6 +68,7 @@ public class GitHubSettingsProvider {
                 .token(token)
                 .url(url)
                 .api(api)
+                .options(gitHubOptions.getOrDefault(url, GitHubHostOptions.DEFAULT))
                 .build();
     }
 
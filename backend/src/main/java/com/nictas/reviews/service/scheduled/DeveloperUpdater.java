@@ -0,0 +1,94 @@
+package com.nictas.reviews.service.scheduled;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.nictas.reviews.domain.Developer;
+import com.nictas.reviews.repository.DeveloperRepository;
+import com.nictas.reviews.repository.PullRequestReviewRepository;
+
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class DeveloperUpdater {
+
+    static final Developer DUMMY_DEVELOPER = new Developer("dummy", "dummy@test.com");
+
+    private final DeveloperRepository developerRepository;
+    private final PullRequestReviewRepository pullRequestReviewRepository;
+
+    @Autowired
+    public DeveloperUpdater(DeveloperRepository developerRepository,
+                            PullRequestReviewRepository pullRequestReviewRepository) {
+        this.developerRepository = developerRepository;
+        this.pullRequestReviewRepository = pullRequestReviewRepository;
+    }
+
+    @Transactional
+    public void updateDevelopers(List<Developer> developers) {
+        Map<String, Developer> existingDevelopers = new LinkedHashMap<>();
+        developerRepository.findAll()
+                .forEach(developer -> existingDevelopers.put(developer.getLogin(), developer));
+        Map<String, Developer> newDevelopers = new LinkedHashMap<>();
+        List<Developer> changedDevelopers = new ArrayList<>();
+        for (Developer developer : developers) {
+            Developer existingDeveloper = existingDevelopers.get(developer.getLogin());
+            if (existingDeveloper == null) {
+                newDevelopers.putIfAbsent(developer.getLogin(), developer);
+            } else if (developer.getEmail() != null && !developer.getEmail()
+                    .equals(existingDeveloper.getEmail())) {
+                changedDevelopers.add(existingDeveloper.withEmail(developer.getEmail()));
+            }
+        }
+        Set<String> removedLogins = new TreeSet<>(existingDevelopers.keySet());
+        removedLogins.removeAll(getLogins(developers));
+        log.info("New developers: {}", newDevelopers.values());
+        log.info("Developers with changed emails: {}", changedDevelopers);
+        log.info("Developers no longer in the team: {}", removedLogins);
+        changedDevelopers.forEach(developer -> developerRepository.updateEmail(developer.getLogin(),
+                developer.getEmail()));
+        if (!newDevelopers.isEmpty()) {
+            createNewDevelopers(newDevelopers.values(), existingDevelopers.values());
+        }
+    }
+
+    private void createNewDevelopers(Collection<Developer> developers, Collection<Developer> existingDevelopers) {
+        Developer startingPoint = existingDevelopers.stream()
+                .min(Comparator.comparingDouble(Developer::getScore)
+                        .thenComparing(Developer::getLogin))
+                .orElse(DUMMY_DEVELOPER);
+        log.info("Replicating history of developer {} as a starting point for new developers", startingPoint);
+        List<Developer> developersWithStartingScore = developers.stream()
+                .map(developer -> developer.withScore(startingPoint.getScore()))
+                .toList();
+        log.info("Creating developers: {}", developersWithStartingScore);
+        developerRepository.insertAll(developersWithStartingScore);
+        if (startingPoint != DUMMY_DEVELOPER) {
+            createNewDeveloperHistory(developersWithStartingScore, startingPoint);
+        }
+    }
+
+    private void createNewDeveloperHistory(List<Developer> developers, Developer startingPoint) {
+        int copiedReviews = pullRequestReviewRepository.copyReviews(startingPoint.getLogin(), getLogins(developers));
+        log.info("Copied {} PR reviews of developer {} to {} new developers", copiedReviews, startingPoint.getLogin(),
+                developers.size());
+    }
+
+    private List<String> getLogins(Collection<Developer> developers) {
+        return developers.stream()
+                .map(Developer::getLogin)
+                .toList();
+    }
+
+}
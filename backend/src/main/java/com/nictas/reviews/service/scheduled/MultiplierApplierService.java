@@ -1,20 +1,24 @@
 package com.nictas.reviews.service.scheduled;
 
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import com.nictas.reviews.domain.Developer;
 import com.nictas.reviews.domain.Multiplier;
-import com.nictas.reviews.domain.PullRequestReview;
-import com.nictas.reviews.service.DeveloperService;
+import com.nictas.reviews.domain.MultiplierApplicationJob;
+import com.nictas.reviews.domain.MultiplierApplicationJob.Status;
+import com.nictas.reviews.error.ConflictException;
+import com.nictas.reviews.service.MultiplierApplicationJobService;
 import com.nictas.reviews.service.MultiplierService;
 import com.nictas.reviews.service.PullRequestReviewService;
-import com.nictas.reviews.service.score.PullRequestScoreComputer;
+import com.nictas.reviews.service.score.MultiplierDiff;
 
-import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -22,49 +26,117 @@ import lombok.extern.slf4j.Slf4j;
 public class MultiplierApplierService {
 
     private final MultiplierService multiplierService;
-    private final PullRequestScoreComputer pullRequestScoreComputer;
     private final PullRequestReviewService pullRequestReviewService;
-    private final DeveloperService developerService;
+    private final MultiplierApplicationJobService multiplierApplicationJobService;
+    private final MultiplierChunkApplier multiplierChunkApplier;
+    private final TaskScheduler taskScheduler;
+    private final int chunkSize;
 
     @Autowired
     public MultiplierApplierService(MultiplierService multiplierService,
-                                    PullRequestScoreComputer pullRequestScoreComputer,
                                     PullRequestReviewService pullRequestReviewService,
-                                    DeveloperService developerService) {
+                                    MultiplierApplicationJobService multiplierApplicationJobService,
+                                    MultiplierChunkApplier multiplierChunkApplier, TaskScheduler taskScheduler,
+                                    @Value("${multipliers.apply.chunk-size}") int chunkSize) {
         this.multiplierService = multiplierService;
-        this.pullRequestScoreComputer = pullRequestScoreComputer;
         this.pullRequestReviewService = pullRequestReviewService;
-        this.developerService = developerService;
+        this.multiplierApplicationJobService = multiplierApplicationJobService;
+        this.multiplierChunkApplier = multiplierChunkApplier;
+        this.taskScheduler = taskScheduler;
+        this.chunkSize = chunkSize;
     }
 
     @Scheduled(cron = "0 0 0 * * *")
-    @Transactional
     public void applyLatestMultiplier() {
-        log.info("Applying latest multiplier to all existing PR reviews");
+        startApplyingLatestMultiplier();
+    }
+
+    public synchronized MultiplierApplicationJob startApplyingLatestMultiplier() {
         Multiplier latestMultiplier = multiplierService.getLatestMultiplier();
-        log.info("Latest multiplier: {}", latestMultiplier);
-        Page<PullRequestReview> reviews = pullRequestReviewService
-                .getReviewsWithDifferentMultiplierIds(latestMultiplier.getId(), Pageable.unpaged());
-        applyMultiplier(latestMultiplier, reviews);
+        for (MultiplierApplicationJob runningJob : multiplierApplicationJobService.getRunningJobs()) {
+            if (runningJob.getMultiplier()
+                    .getId()
+                    .equals(latestMultiplier.getId())) {
+                log.info("Multiplier application job {} is already running", runningJob.getId());
+                return runningJob;
+            }
+            log.info("Multiplier application job {} applies outdated multiplier {}", runningJob.getId(),
+                    runningJob.getMultiplier()
+                            .getId());
+            multiplierApplicationJobService.supersedeJob(runningJob);
+        }
+        log.info("Applying latest multiplier to all existing PR reviews: {}", latestMultiplier);
+        long totalReviews = pullRequestReviewService.countReviewsWithDifferentMultiplierIds(latestMultiplier.getId());
+        MultiplierApplicationJob newJob = MultiplierApplicationJob.builder()
+                .multiplier(latestMultiplier)
+                .totalReviews(totalReviews)
+                .build();
+        MultiplierApplicationJob job = multiplierApplicationJobService.saveJob(newJob);
+        if (!job.getId()
+                .equals(newJob.getId())) {
+            log.info("Multiplier application job {} was started by another instance", job.getId());
+            return job;
+        }
+        taskScheduler.schedule(() -> runJob(job), Instant.now());
+        return job;
+    }
+
+    @Scheduled(initialDelay = 0, fixedRate = 1, timeUnit = TimeUnit.MINUTES)
+    public void resumeInterruptedJobs() {
+        for (MultiplierApplicationJob job : multiplierApplicationJobService.claimAbandonedJobs()) {
+            log.info("Resuming multiplier application job {} after PR review {}", job.getId(), job.getLastReviewId());
+            taskScheduler.schedule(() -> runJob(job), Instant.now());
+        }
+    }
+
+    void runJob(MultiplierApplicationJob job) {
+        MultiplierApplicationJob currentJob = job;
+        try {
+            currentJob = skipUnaffectedReviews(currentJob);
+            long appliedReviews;
+            do {
+                MultiplierApplicationJob updatedJob = multiplierChunkApplier.applyMultiplier(currentJob, chunkSize);
+                appliedReviews = updatedJob.getProcessedReviews() - currentJob.getProcessedReviews();
+                currentJob = updatedJob;
+                log.info("Applied multiplier to {} of {} PR reviews in job {}", currentJob.getProcessedReviews(),
+                        currentJob.getTotalReviews(), currentJob.getId());
+            } while (appliedReviews == chunkSize);
+            finishJob(currentJob, Status.COMPLETED);
+        } catch (ConflictException e) {
+            log.warn("Stopping multiplier application job {}: {}", currentJob.getId(), e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Multiplier application job {} failed: {}", currentJob.getId(), e.getMessage(), e);
+            finishJob(currentJob, Status.FAILED);
+        }
+    }
+
+    private MultiplierApplicationJob skipUnaffectedReviews(MultiplierApplicationJob job) {
+        Multiplier latestMultiplier = job.getMultiplier();
+        for (Multiplier previousMultiplier : pullRequestReviewService
+                .getDifferentMultipliersOfReviews(latestMultiplier.getId())) {
+            MultiplierDiff diff = MultiplierDiff.between(previousMultiplier, latestMultiplier);
+            if (diff.isFullRescoringRequired()) {
+                log.info("Reviews with multiplier {} have to be rescored", previousMultiplier.getId());
+                continue;
+            }
+            int updatedReviews = pullRequestReviewService.updateMultiplierIds(previousMultiplier.getId(),
+                    latestMultiplier.getId(), diff.getChangedFileExtensions());
+            log.info("Moved {} reviews unaffected by changes in {} from multiplier {} to {}", updatedReviews,
+                    diff.getChangedFileExtensions(), previousMultiplier.getId(), latestMultiplier.getId());
+        }
+        long remainingReviews = pullRequestReviewService
+                .countReviewsWithDifferentMultiplierIds(latestMultiplier.getId());
+        return multiplierApplicationJobService
+                .updateJob(job.withTotalReviews(job.getProcessedReviews() + remainingReviews)
+                        .withUpdatedAt(OffsetDateTime.now()));
     }
 
-    private void applyMultiplier(Multiplier latestMultiplier, Page<PullRequestReview> reviews) {
-        reviews.stream()
-                .forEach(review -> {
-                    double oldScore = review.getScore();
-                    double newScore = pullRequestScoreComputer.computeScore(review.getPullRequestFileDetails(),
-                            latestMultiplier);
-                    double scoreDifference = newScore - oldScore;
-                    Developer developer = developerService.getDeveloper(review.getDeveloper()
-                            .getLogin());
-                    Developer updatedDeveloper = developer.withScore(developer.getScore() + scoreDifference);
-                    log.info("Applying new score {} with latest multiplier to PR review: {}", newScore, review);
-                    pullRequestReviewService.saveReview(review.withScore(newScore)
-                            .withMultiplier(latestMultiplier)
-                            .withDeveloper(updatedDeveloper));
-                    log.info("Applying score difference {} to developer: {}", scoreDifference, developer);
-                    developerService.saveDeveloper(updatedDeveloper);
-                });
+    private void finishJob(MultiplierApplicationJob job, Status status) {
+        OffsetDateTime now = OffsetDateTime.now();
+        multiplierApplicationJobService.updateJob(job.withStatus(status)
+                .withUpdatedAt(now)
+                .withFinishedAt(now));
+        log.info("Multiplier application job {} finished with status {}", job.getId(), status);
     }
 
 }
@@ -0,0 +1,82 @@
+package com.nictas.reviews.service.scheduled;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.nictas.reviews.domain.Multiplier;
+import com.nictas.reviews.domain.MultiplierApplicationJob;
+import com.nictas.reviews.domain.PullRequestReview;
+import com.nictas.reviews.service.DeveloperService;
+import com.nictas.reviews.service.MultiplierApplicationJobService;
+import com.nictas.reviews.service.PullRequestReviewService;
+import com.nictas.reviews.service.score.PullRequestScoreComputer;
+
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class MultiplierChunkApplier {
+
+    private final PullRequestScoreComputer pullRequestScoreComputer;
+    private final PullRequestReviewService pullRequestReviewService;
+    private final DeveloperService developerService;
+    private final MultiplierApplicationJobService multiplierApplicationJobService;
+
+    @Autowired
+    public MultiplierChunkApplier(PullRequestScoreComputer pullRequestScoreComputer,
+                                  PullRequestReviewService pullRequestReviewService,
+                                  DeveloperService developerService,
+                                  MultiplierApplicationJobService multiplierApplicationJobService) {
+        this.pullRequestScoreComputer = pullRequestScoreComputer;
+        this.pullRequestReviewService = pullRequestReviewService;
+        this.developerService = developerService;
+        this.multiplierApplicationJobService = multiplierApplicationJobService;
+    }
+
+    @Transactional
+    public MultiplierApplicationJob applyMultiplier(MultiplierApplicationJob job, int chunkSize) {
+        Multiplier multiplier = job.getMultiplier();
+        List<PullRequestReview> reviews = pullRequestReviewService
+                .getReviewsWithDifferentMultiplierIds(multiplier.getId(), job.getLastReviewId(), chunkSize);
+        if (reviews.isEmpty()) {
+            return job;
+        }
+        List<PullRequestReview> rescoredReviews = reviews.parallelStream()
+                .map(review -> rescore(review, multiplier))
+                .toList();
+        pullRequestReviewService.updateReviews(rescoredReviews);
+        Map<String, Double> scoreDifferences = new TreeMap<>();
+        for (int i = 0; i < reviews.size(); i++) {
+            PullRequestReview review = reviews.get(i);
+            String login = review.getDeveloper()
+                    .getLogin();
+            double scoreDifference = rescoredReviews.get(i)
+                    .getScore() - review.getScore();
+            scoreDifferences.merge(login, scoreDifference, Double::sum);
+        }
+        scoreDifferences.forEach((login, scoreDifference) -> {
+            log.debug("Applying score difference {} to developer: {}", scoreDifference, login);
+            developerService.addToScore(login, scoreDifference);
+        });
+        UUID lastReviewId = reviews.get(reviews.size() - 1)
+                .getId();
+        return multiplierApplicationJobService.updateJob(job.withLastReviewId(lastReviewId)
+                .withProcessedReviews(job.getProcessedReviews() + reviews.size())
+                .withUpdatedAt(OffsetDateTime.now()));
+    }
+
+    private PullRequestReview rescore(PullRequestReview review, Multiplier multiplier) {
+        double newScore = pullRequestScoreComputer.computeScore(review.getPullRequestFileDetails(), multiplier);
+        log.debug("Applying new score {} with latest multiplier to PR review: {}", newScore, review.getId());
+        return review.withScore(newScore)
+                .withMultiplier(multiplier);
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.nictas.reviews.service.scheduled;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.nictas.reviews.domain.Developer;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class OrganizationAdminsSnapshot {
+
+    public static final OrganizationAdminsSnapshot EMPTY = new OrganizationAdminsSnapshot(Collections.emptyList());
+
+    private final List<Developer> admins;
+    @EqualsAndHashCode.Include
+    private final Set<String> logins;
+    @EqualsAndHashCode.Include
+    private final Set<String> emails;
+
+    public OrganizationAdminsSnapshot(List<Developer> admins) {
+        this.admins = List.copyOf(admins);
+        this.logins = admins.stream()
+                .map(Developer::getLogin)
+                .map(OrganizationAdminsSnapshot::normalize)
+                .collect(Collectors.toUnmodifiableSet());
+        this.emails = admins.stream()
+                .map(Developer::getEmail)
+                .filter(Objects::nonNull)
+                .map(OrganizationAdminsSnapshot::normalize)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public boolean isAdmin(Developer developer) {
+        if (logins.contains(normalize(developer.getLogin()))) {
+            return true;
+        }
+        return developer.getEmail() != null && emails.contains(normalize(developer.getEmail()));
+    }
+
+    private static String normalize(String value) {
+        return value.trim()
+                .toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -1,7 +1,8 @@
 package com.nictas.reviews.service.scheduled;
 
-import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -12,6 +13,7 @@ import org.springframework.stereotype.Service;
 
 import com.nictas.reviews.domain.Developer;
 import com.nictas.reviews.service.github.GitHubClientProvider;
+import com.nictas.reviews.service.github.GitHubRequestPriority;
 
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
@@ -24,7 +26,8 @@ public class OrganizationAdminsSyncService {
     private final String developersUrl;
     private final String developersOrg;
 
-    private AtomicReference<List<Developer>> organizationAdmins = new AtomicReference<>(Collections.emptyList());
+    private final AtomicReference<OrganizationAdminsSnapshot> organizationAdmins = new AtomicReference<>(
+            OrganizationAdminsSnapshot.EMPTY);
 
     @Autowired
     public OrganizationAdminsSyncService(GitHubClientProvider clientProvider,
@@ -35,7 +38,7 @@ public class OrganizationAdminsSyncService {
         this.developersOrg = developersOrg;
     }
 
-    public List<Developer> getOrganizationAdmins() {
+    public OrganizationAdminsSnapshot getOrganizationAdmins() {
         return organizationAdmins.get();
     }
 
@@ -44,9 +47,26 @@ public class OrganizationAdminsSyncService {
     public void fetchAndUpdateOrganizationAdmins() {
         log.info("Synchronizing organization admins with GitHub {} organization {}", developersUrl, developersOrg);
         var client = clientProvider.getClientForUrl(developersUrl);
-        var developers = client.getOrganizationAdmins(developersOrg);
+        var developers = GitHubRequestPriority.runInBackground(() -> client.getOrganizationAdmins(developersOrg));
         log.info("Fetched {} organization admins from GitHub: {}", developers.size(), getLogins(developers));
-        organizationAdmins.set(developers);
+        updateOrganizationAdmins(new OrganizationAdminsSnapshot(developers));
+    }
+
+    private void updateOrganizationAdmins(OrganizationAdminsSnapshot snapshot) {
+        OrganizationAdminsSnapshot previous = organizationAdmins.get();
+        if (previous.equals(snapshot)) {
+            log.info("Organization admins have not changed");
+            return;
+        }
+        log.info("Organization admins changed, added: {}, removed: {}", difference(snapshot, previous),
+                difference(previous, snapshot));
+        organizationAdmins.set(snapshot);
+    }
+
+    private Set<String> difference(OrganizationAdminsSnapshot snapshot, OrganizationAdminsSnapshot other) {
+        Set<String> logins = new TreeSet<>(snapshot.getLogins());
+        logins.removeAll(other.getLogins());
+        return logins;
     }
 
     private List<String> getLogins(List<Developer> developers) {
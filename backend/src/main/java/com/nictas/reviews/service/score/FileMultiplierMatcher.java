@@ -0,0 +1,75 @@
+package com.nictas.reviews.service.score;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.nictas.reviews.domain.FileMultiplier;
+
+public class FileMultiplierMatcher {
+
+    private final List<FileMultiplier> fileMultipliers;
+    private final Node root = new Node();
+    private final List<FileMultiplier> pathPatternMultipliers;
+    private final PathPatternAutomaton pathPatternAutomaton;
+
+    public FileMultiplierMatcher(List<FileMultiplier> fileMultipliers) {
+        this.fileMultipliers = List.copyOf(fileMultipliers);
+        this.fileMultipliers.stream()
+                .filter(fileMultiplier -> fileMultiplier.getFileExtension() != null)
+                .forEach(this::add);
+        this.pathPatternMultipliers = this.fileMultipliers.stream()
+                .filter(fileMultiplier -> fileMultiplier.getPathPattern() != null)
+                .toList();
+        this.pathPatternAutomaton = new PathPatternAutomaton(pathPatternMultipliers.stream()
+                .map(FileMultiplier::getPathPattern)
+                .toList());
+    }
+
+    public boolean isCompiledFrom(List<FileMultiplier> fileMultipliers) {
+        return this.fileMultipliers.equals(fileMultipliers);
+    }
+
+    public FileMultiplier match(String fileName) {
+        int pathPatternIndex = pathPatternAutomaton.match(fileName);
+        if (pathPatternIndex >= 0) {
+            return pathPatternMultipliers.get(pathPatternIndex);
+        }
+        return matchFileExtension(fileName);
+    }
+
+    private FileMultiplier matchFileExtension(String fileName) {
+        FileMultiplier longestMatch = root.fileMultiplier;
+        Node node = root;
+        for (int i = fileName.length() - 1; i >= 0; i--) {
+            node = node.children.get(fileName.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.fileMultiplier != null) {
+                longestMatch = node.fileMultiplier;
+            }
+        }
+        return longestMatch;
+    }
+
+    private void add(FileMultiplier fileMultiplier) {
+        String fileExtension = fileMultiplier.getFileExtension();
+        Node node = root;
+        for (int i = fileExtension.length() - 1; i >= 0; i--) {
+            node = node.children.computeIfAbsent(fileExtension.charAt(i), character -> new Node());
+        }
+        // Keep the first rule when the same extension is listed more than once
+        if (node.fileMultiplier == null) {
+            node.fileMultiplier = fileMultiplier;
+        }
+    }
+
+    private static class Node {
+
+        private final Map<Character, Node> children = new HashMap<>();
+        private FileMultiplier fileMultiplier;
+
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.nictas.reviews.service.score;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.nictas.reviews.domain.FileMultiplier;
+import com.nictas.reviews.domain.Multiplier;
+
+import lombok.Data;
+
+@Data
+public class MultiplierDiff {
+
+    private static final MultiplierDiff FULL_RESCORING = new MultiplierDiff(true, Collections.emptySet());
+
+    private final boolean fullRescoringRequired;
+    private final Set<String> changedFileExtensions;
+
+    public static MultiplierDiff between(Multiplier previousMultiplier, Multiplier latestMultiplier) {
+        if (Double.compare(previousMultiplier.getDefaultAdditionsMultiplier(),
+                latestMultiplier.getDefaultAdditionsMultiplier()) != 0
+                || Double.compare(previousMultiplier.getDefaultDeletionsMultiplier(),
+                        latestMultiplier.getDefaultDeletionsMultiplier()) != 0
+                || !getPathPatternRules(previousMultiplier).equals(getPathPatternRules(latestMultiplier))) {
+            return FULL_RESCORING;
+        }
+        Map<String, FileMultiplier> previousRules = getFileExtensionRules(previousMultiplier);
+        Map<String, FileMultiplier> latestRules = getFileExtensionRules(latestMultiplier);
+        Set<String> fileExtensions = new TreeSet<>(previousRules.keySet());
+        fileExtensions.addAll(latestRules.keySet());
+        Set<String> changedFileExtensions = new TreeSet<>();
+        for (String fileExtension : fileExtensions) {
+            if (!Objects.equals(previousRules.get(fileExtension), latestRules.get(fileExtension))) {
+                changedFileExtensions.add(fileExtension);
+            }
+        }
+        // Stored reviews are only indexed by the suffixes of their file names that start with a dot
+        if (changedFileExtensions.stream()
+                .anyMatch(fileExtension -> !fileExtension.startsWith("."))) {
+            return FULL_RESCORING;
+        }
+        return new MultiplierDiff(false, Collections.unmodifiableSet(changedFileExtensions));
+    }
+
+    private static List<FileMultiplier> getPathPatternRules(Multiplier multiplier) {
+        return multiplier.getFileMultipliers()
+                .stream()
+                .filter(fileMultiplier -> fileMultiplier.getPathPattern() != null)
+                .map(fileMultiplier -> fileMultiplier.withId(null))
+                .toList();
+    }
+
+    private static Map<String, FileMultiplier> getFileExtensionRules(Multiplier multiplier) {
+        Map<String, FileMultiplier> rules = new HashMap<>();
+        for (FileMultiplier fileMultiplier : multiplier.getFileMultipliers()) {
+            if (fileMultiplier.getFileExtension() != null) {
+                rules.putIfAbsent(fileMultiplier.getFileExtension(), fileMultiplier.withId(null));
+            }
+        }
+        return rules;
+    }
+
+}
@@ -0,0 +1,187 @@
+package com.nictas.reviews.service.score;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class PathPatternAutomaton {
+
+    static final int MAX_CACHED_STATES = 10_000;
+
+    private enum TokenType {
+        LITERAL, ANY_CHARACTER, ANY_CHARACTERS, ANY_PATH, ANY_DIRECTORIES, ACCEPT
+    }
+
+    private final List<TokenType> tokenTypes = new ArrayList<>();
+    private final List<Character> literals = new ArrayList<>();
+    private final List<Integer> patternIndexes = new ArrayList<>();
+    private final Map<BitSet, State> states = new ConcurrentHashMap<>();
+    private final State initialState;
+
+    public PathPatternAutomaton(List<String> pathPatterns) {
+        BitSet startPositions = new BitSet();
+        for (int i = 0; i < pathPatterns.size(); i++) {
+            startPositions.set(tokenTypes.size());
+            compile(pathPatterns.get(i), i);
+        }
+        this.initialState = toState(closure(startPositions, true));
+    }
+
+    public int match(String path) {
+        State state = initialState;
+        for (int i = 0; i < path.length() && !state.isDead(); i++) {
+            state = state.next(path.charAt(i));
+        }
+        return state.matchingPatternIndex;
+    }
+
+    private void compile(String pathPattern, int patternIndex) {
+        String pattern = pathPattern.startsWith("/") ? pathPattern.substring(1) : pathPattern;
+        if (pattern.isEmpty()) {
+            throw new IllegalArgumentException("Path pattern must not be empty");
+        }
+        // Patterns without a slash match the file name in any directory, like in .gitignore
+        if (!pathPattern.contains("/")) {
+            addToken(TokenType.ANY_DIRECTORIES, patternIndex);
+        }
+        int i = 0;
+        while (i < pattern.length()) {
+            char character = pattern.charAt(i);
+            if (pattern.startsWith("**/", i)) {
+                addToken(TokenType.ANY_DIRECTORIES, patternIndex);
+                i += 3;
+            } else if (pattern.startsWith("**", i)) {
+                addToken(TokenType.ANY_PATH, patternIndex);
+                i += 2;
+            } else if (character == '*') {
+                addToken(TokenType.ANY_CHARACTERS, patternIndex);
+                i++;
+            } else if (character == '?') {
+                addToken(TokenType.ANY_CHARACTER, patternIndex);
+                i++;
+            } else {
+                addToken(TokenType.LITERAL, character, patternIndex);
+                i++;
+            }
+        }
+        addToken(TokenType.ACCEPT, patternIndex);
+    }
+
+    private void addToken(TokenType tokenType, int patternIndex) {
+        addToken(tokenType, '\0', patternIndex);
+    }
+
+    private void addToken(TokenType tokenType, char literal, int patternIndex) {
+        tokenTypes.add(tokenType);
+        literals.add(literal);
+        patternIndexes.add(patternIndex);
+    }
+
+    private BitSet closure(BitSet positions, boolean segmentStart) {
+        BitSet closure = new BitSet();
+        positions.stream()
+                .forEach(position -> addWithClosure(closure, position, segmentStart));
+        return closure;
+    }
+
+    private void addWithClosure(BitSet closure, int position, boolean segmentStart) {
+        while (!closure.get(position)) {
+            closure.set(position);
+            TokenType tokenType = tokenTypes.get(position);
+            boolean skippable = switch (tokenType) {
+                case ANY_CHARACTERS, ANY_PATH -> true;
+                case ANY_DIRECTORIES -> segmentStart;
+                default -> false;
+            };
+            if (!skippable) {
+                return;
+            }
+            position++;
+        }
+    }
+
+    private BitSet move(BitSet positions, char character) {
+        BitSet nextPositions = new BitSet();
+        positions.stream()
+                .forEach(position -> {
+                    switch (tokenTypes.get(position)) {
+                        case LITERAL -> {
+                            if (literals.get(position) == character) {
+                                nextPositions.set(position + 1);
+                            }
+                        }
+                        case ANY_CHARACTER -> {
+                            if (character != '/') {
+                                nextPositions.set(position + 1);
+                            }
+                        }
+                        case ANY_CHARACTERS -> {
+                            if (character != '/') {
+                                nextPositions.set(position);
+                            }
+                        }
+                        case ANY_PATH -> nextPositions.set(position);
+                        case ANY_DIRECTORIES -> {
+                            nextPositions.set(position);
+                            if (character == '/') {
+                                nextPositions.set(position + 1);
+                            }
+                        }
+                        case ACCEPT -> {
+                            // Nothing left to match
+                        }
+                    }
+                });
+        return closure(nextPositions, character == '/');
+    }
+
+    private State toState(BitSet positions) {
+        State state = states.get(positions);
+        if (state != null) {
+            return state;
+        }
+        state = new State(positions, findMatchingPatternIndex(positions));
+        if (states.size() < MAX_CACHED_STATES) {
+            State existingState = states.putIfAbsent(positions, state);
+            return existingState == null ? state : existingState;
+        }
+        return state;
+    }
+
+    private int findMatchingPatternIndex(BitSet positions) {
+        return positions.stream()
+                .filter(position -> tokenTypes.get(position) == TokenType.ACCEPT)
+                .map(patternIndexes::get)
+                .min()
+                .orElse(-1);
+    }
+
+    private class State {
+
+        private final BitSet positions;
+        private final int matchingPatternIndex;
+        private final Map<Character, State> transitions = new ConcurrentHashMap<>();
+
+        State(BitSet positions, int matchingPatternIndex) {
+            this.positions = positions;
+            this.matchingPatternIndex = matchingPatternIndex;
+        }
+
+        boolean isDead() {
+            return positions.isEmpty();
+        }
+
+        State next(char character) {
+            State nextState = transitions.get(character);
+            if (nextState == null) {
+                nextState = toState(move(positions, character));
+                transitions.put(character, nextState);
+            }
+            return nextState;
+        }
+
+    }
+
+}
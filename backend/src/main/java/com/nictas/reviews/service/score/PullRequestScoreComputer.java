@@ -1,8 +1,19 @@
 package com.nictas.reviews.service.score;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.nictas.reviews.domain.FileMultiplier;
 import com.nictas.reviews.domain.Multiplier;
 import com.nictas.reviews.domain.PullRequest;
@@ -11,6 +22,7 @@ import com.nictas.reviews.domain.PullRequestFileDetails.ChangedFile;
 import com.nictas.reviews.service.MultiplierService;
 import com.nictas.reviews.service.github.GitHubClient;
 import com.nictas.reviews.service.github.GitHubClientProvider;
+import com.nictas.reviews.service.github.PullRequestInfoCache;
 
 import lombok.Builder;
 import lombok.Data;
@@ -21,23 +33,50 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 public class PullRequestScoreComputer {
 
+    static final int FILE_MULTIPLIER_MATCHER_CACHE_SIZE = 16;
+
     private final GitHubClientProvider clientProvider;
     private final MultiplierService multiplierService;
+    private final TaskExecutor taskExecutor;
+    private final PullRequestInfoCache pullRequestInfoCache;
+    private final Cache<UUID, FileMultiplierMatcher> fileMultiplierMatchers = Caffeine.newBuilder()
+            .maximumSize(FILE_MULTIPLIER_MATCHER_CACHE_SIZE)
+            .build();
 
     @Autowired
-    public PullRequestScoreComputer(GitHubClientProvider clientProvider, MultiplierService multiplierService) {
+    public PullRequestScoreComputer(GitHubClientProvider clientProvider, MultiplierService multiplierService,
+                                    @Qualifier("taskExecutor") TaskExecutor taskExecutor,
+                                    PullRequestInfoCache pullRequestInfoCache) {
         this.clientProvider = clientProvider;
         this.multiplierService = multiplierService;
+        this.taskExecutor = taskExecutor;
+        this.pullRequestInfoCache = pullRequestInfoCache;
     }
 
     public PullRequestAssessment computeScore(String pullRequestUrl) {
+        return computeScore(pullRequestUrl, multiplierService::getLatestMultiplier);
+    }
+
+    public Map<String, CompletableFuture<PullRequestAssessment>> computeScores(Collection<String> pullRequestUrls) {
+        log.info("Computing scores for PRs {}", pullRequestUrls);
+        Multiplier multiplier = multiplierService.getLatestMultiplier();
+        Map<String, CompletableFuture<PullRequestAssessment>> assessments = new LinkedHashMap<>();
+        for (String pullRequestUrl : pullRequestUrls) {
+            assessments.computeIfAbsent(pullRequestUrl, url -> CompletableFuture
+                    .supplyAsync(() -> computeScore(url, () -> multiplier), taskExecutor));
+        }
+        return assessments;
+    }
+
+    private PullRequestAssessment computeScore(String pullRequestUrl, Supplier<Multiplier> multiplierSupplier) {
         GitHubClient client = clientProvider.getClientForUrl(pullRequestUrl);
 
         log.info("Computing score for PR {}", pullRequestUrl);
         PullRequest pullRequest = PullRequest.fromUrl(pullRequestUrl);
-        PullRequestFileDetails pullRequestFileDetails = client.getPullRequestInfo(pullRequest);
+        PullRequestFileDetails pullRequestFileDetails = pullRequestInfoCache.getPullRequestInfo(client, pullRequestUrl,
+                pullRequest);
         log.info("Fetched info for PR {}: {}", pullRequestUrl, pullRequestFileDetails);
-        Multiplier multiplier = multiplierService.getLatestMultiplier();
+        Multiplier multiplier = multiplierSupplier.get();
         double score = computeScore(pullRequestFileDetails, multiplier);
 
         return PullRequestAssessment.builder()
@@ -49,29 +88,36 @@ public class PullRequestScoreComputer {
     }
 
     public double computeScore(PullRequestFileDetails pullRequestFileDetails, Multiplier multiplier) {
+        return computeScore(pullRequestFileDetails, multiplier, getFileMultiplierMatcher(multiplier));
+    }
+
+    public double computeScore(PullRequestFileDetails pullRequestFileDetails, Multiplier multiplier,
+                               FileMultiplierMatcher fileMultiplierMatcher) {
         return pullRequestFileDetails.getChangedFiles()
                 .stream()
-                .mapToDouble(file -> computeScore(file, multiplier))
+                .mapToDouble(file -> computeScore(file, multiplier, fileMultiplierMatcher))
                 .sum();
     }
 
-    private double computeScore(ChangedFile file, Multiplier multiplier) {
-        FileMultiplier fileMultiplier = findFileMultiplier(file, multiplier);
+    private FileMultiplierMatcher getFileMultiplierMatcher(Multiplier multiplier) {
+        FileMultiplierMatcher fileMultiplierMatcher = fileMultiplierMatchers.getIfPresent(multiplier.getId());
+        if (fileMultiplierMatcher != null && fileMultiplierMatcher.isCompiledFrom(multiplier.getFileMultipliers())) {
+            return fileMultiplierMatcher;
+        }
+        log.debug("Compiling file multiplier matcher for multiplier {}", multiplier.getId());
+        fileMultiplierMatcher = new FileMultiplierMatcher(multiplier.getFileMultipliers());
+        fileMultiplierMatchers.put(multiplier.getId(), fileMultiplierMatcher);
+        return fileMultiplierMatcher;
+    }
+
+    private double computeScore(ChangedFile file, Multiplier multiplier, FileMultiplierMatcher fileMultiplierMatcher) {
+        FileMultiplier fileMultiplier = fileMultiplierMatcher.match(file.getName());
         if (fileMultiplier == null) {
             return computeScoreWithDefaultMultipliers(file, multiplier);
         }
         return computeScore(file, fileMultiplier);
     }
 
-    private FileMultiplier findFileMultiplier(ChangedFile file, Multiplier multiplier) {
-        return multiplier.getFileMultipliers()
-                .stream()
-                .filter(fileMultiplier -> file.getName()
-                        .endsWith(fileMultiplier.getFileExtension()))
-                .findFirst()
-                .orElse(null);
-    }
-
     private double computeScoreWithDefaultMultipliers(ChangedFile file, Multiplier multiplier) {
         double additionsMultiplier = multiplier.getDefaultAdditionsMultiplier();
         double deletionsMultiplier = multiplier.getDefaultDeletionsMultiplier();
@@ -1,28 +1,39 @@
 package com.nictas.reviews.configuration;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.net.SocketTimeoutException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.kohsuke.github.HttpException;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.core.OAuth2AuthenticatedPrincipal;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.server.resource.introspection.OAuth2IntrospectionException;
 
 import com.nictas.reviews.domain.Developer;
 import com.nictas.reviews.service.github.GitHubClient;
 import com.nictas.reviews.service.github.GitHubClientException;
 import com.nictas.reviews.service.github.GitHubClientProvider;
+import com.nictas.reviews.service.scheduled.OrganizationAdminsSnapshot;
 import com.nictas.reviews.service.scheduled.OrganizationAdminsSyncService;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class GitHubOpaqueTokenIntrospectorTest {
 
@@ -31,6 +42,9 @@ class GitHubOpaqueTokenIntrospectorTest {
     private static final Developer DEVELOPER_FOO = new Developer("foo", "foo@example.com");
     private static final Developer DEVELOPER_BAR = new Developer("bar", "bar@example.com");
     private static final Developer DEVELOPER_BAZ = new Developer("baz", "baz@example.com");
+    private static final GitHubClientException UNAUTHORIZED_EXCEPTION = new GitHubClientException(
+            "Error while fetching GitHub user: Bad credentials",
+            new HttpException("Bad credentials", 401, "Unauthorized", DEVELOPERS_URL));
 
     @Mock
     private GitHubClientProvider clientProvider;
@@ -43,13 +57,15 @@ class GitHubOpaqueTokenIntrospectorTest {
     @BeforeEach
     void setUp() {
         when(clientProvider.getClientForUrl(DEVELOPERS_URL, TOKEN)).thenReturn(client);
-        introspector = new GitHubOpaqueTokenIntrospector(clientProvider, organizationAdminsSyncService, DEVELOPERS_URL);
+        introspector = new GitHubOpaqueTokenIntrospector(clientProvider, organizationAdminsSyncService,
+                new SimpleMeterRegistry(), DEVELOPERS_URL, 100, Duration.ofMinutes(5), Duration.ofSeconds(10));
     }
 
     @Test
     void testIntrospectSuccess() {
         when(client.getMyself()).thenReturn(DEVELOPER_FOO);
-        when(organizationAdminsSyncService.getOrganizationAdmins()).thenReturn(List.of(DEVELOPER_BAR, DEVELOPER_BAZ));
+        when(organizationAdminsSyncService.getOrganizationAdmins())
+                .thenReturn(new OrganizationAdminsSnapshot(List.of(DEVELOPER_BAR, DEVELOPER_BAZ)));
 
         OAuth2AuthenticatedPrincipal principal = introspector.introspect(TOKEN);
 
@@ -64,7 +80,8 @@ class GitHubOpaqueTokenIntrospectorTest {
     @Test
     void testIntrospectAdminSuccess() {
         when(client.getMyself()).thenReturn(DEVELOPER_BAZ);
-        when(organizationAdminsSyncService.getOrganizationAdmins()).thenReturn(List.of(DEVELOPER_BAR, DEVELOPER_BAZ));
+        when(organizationAdminsSyncService.getOrganizationAdmins())
+                .thenReturn(new OrganizationAdminsSnapshot(List.of(DEVELOPER_BAR, DEVELOPER_BAZ)));
 
         OAuth2AuthenticatedPrincipal principal = introspector.introspect(TOKEN);
 
@@ -79,7 +96,7 @@ class GitHubOpaqueTokenIntrospectorTest {
 
     @Test
     void testIntrospectWithException() {
-        when(client.getMyself()).thenThrow(new GitHubClientException("GitHub client error"));
+        when(client.getMyself()).thenThrow(UNAUTHORIZED_EXCEPTION);
 
         OAuth2AuthenticationException exception = assertThrows(OAuth2AuthenticationException.class,
                 () -> introspector.introspect(TOKEN));
@@ -90,4 +107,81 @@ class GitHubOpaqueTokenIntrospectorTest {
                 .getDescription());
     }
 
+    @Test
+    void testIntrospectCachesUser() {
+        when(client.getMyself()).thenReturn(DEVELOPER_FOO);
+        when(organizationAdminsSyncService.getOrganizationAdmins()).thenReturn(
+                new OrganizationAdminsSnapshot(List.of(DEVELOPER_BAR)),
+                new OrganizationAdminsSnapshot(List.of(DEVELOPER_FOO)));
+
+        OAuth2AuthenticatedPrincipal firstPrincipal = introspector.introspect(TOKEN);
+        OAuth2AuthenticatedPrincipal secondPrincipal = introspector.introspect(TOKEN);
+
+        assertEquals(DEVELOPER_FOO.getLogin(), firstPrincipal.getName());
+        assertEquals(DEVELOPER_FOO.getLogin(), secondPrincipal.getName());
+        assertFalse(firstPrincipal.getAuthorities()
+                .contains(new SimpleGrantedAuthority(UserRoles.ROLE_ADMIN)));
+        assertTrue(secondPrincipal.getAuthorities()
+                .contains(new SimpleGrantedAuthority(UserRoles.ROLE_ADMIN)));
+        verify(clientProvider, times(1)).getClientForUrl(DEVELOPERS_URL, TOKEN);
+        verify(client, times(1)).getMyself();
+    }
+
+    @Test
+    void testIntrospectCachesFailure() {
+        when(client.getMyself()).thenThrow(UNAUTHORIZED_EXCEPTION);
+
+        assertThrows(OAuth2AuthenticationException.class, () -> introspector.introspect(TOKEN));
+        OAuth2AuthenticationException exception = assertThrows(OAuth2AuthenticationException.class,
+                () -> introspector.introspect(TOKEN));
+
+        assertEquals("invalid_token", exception.getError()
+                .getErrorCode());
+        verify(client, times(1)).getMyself();
+    }
+
+    @Test
+    void testIntrospectDoesNotCacheTransientFailure() {
+        GitHubClientException exception = new GitHubClientException("Error while fetching GitHub user: Bad gateway",
+                new HttpException("Bad gateway", 502, "Bad Gateway", DEVELOPERS_URL));
+        when(client.getMyself()).thenThrow(exception)
+                .thenReturn(DEVELOPER_FOO);
+        when(organizationAdminsSyncService.getOrganizationAdmins()).thenReturn(OrganizationAdminsSnapshot.EMPTY);
+
+        OAuth2IntrospectionException introspectionException = assertThrows(OAuth2IntrospectionException.class,
+                () -> introspector.introspect(TOKEN));
+
+        assertEquals(exception, introspectionException.getCause());
+        assertEquals(DEVELOPER_FOO.getLogin(), introspector.introspect(TOKEN)
+                .getName());
+        verify(client, times(2)).getMyself();
+    }
+
+    @Test
+    void testIntrospectDoesNotCacheNetworkFailure() {
+        when(client.getMyself()).thenThrow(new GitHubClientException("Error while fetching GitHub user: Timeout",
+                new SocketTimeoutException("Timeout")))
+                .thenReturn(DEVELOPER_FOO);
+        when(organizationAdminsSyncService.getOrganizationAdmins()).thenReturn(OrganizationAdminsSnapshot.EMPTY);
+
+        assertThrows(OAuth2IntrospectionException.class, () -> introspector.introspect(TOKEN));
+        assertEquals(DEVELOPER_FOO.getLogin(), introspector.introspect(TOKEN)
+                .getName());
+    }
+
+    @Test
+    void testIntrospectDoesNotShareCacheAcrossTokens() {
+        String otherToken = "other";
+        GitHubClient otherClient = Mockito.mock(GitHubClient.class);
+        when(clientProvider.getClientForUrl(DEVELOPERS_URL, otherToken)).thenReturn(otherClient);
+        when(client.getMyself()).thenReturn(DEVELOPER_FOO);
+        when(otherClient.getMyself()).thenReturn(DEVELOPER_BAR);
+        when(organizationAdminsSyncService.getOrganizationAdmins()).thenReturn(OrganizationAdminsSnapshot.EMPTY);
+
+        assertEquals(DEVELOPER_FOO.getLogin(), introspector.introspect(TOKEN)
+                .getName());
+        assertEquals(DEVELOPER_BAR.getLogin(), introspector.introspect(otherToken)
+                .getName());
+    }
+
 }
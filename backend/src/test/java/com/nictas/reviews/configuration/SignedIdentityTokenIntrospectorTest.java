@@ -0,0 +1,137 @@
+package com.nictas.reviews.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.core.OAuth2AuthenticatedPrincipal;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.resource.introspection.OAuth2IntrospectionAuthenticatedPrincipal;
+
+import com.nictas.reviews.domain.Developer;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+
+@ExtendWith(MockitoExtension.class)
+class SignedIdentityTokenIntrospectorTest {
+
+    private static final String KEY = "0123456789abcdef0123456789abcdef";
+    private static final String GITHUB_TOKEN = "ghp_test";
+    private static final Developer DEVELOPER_FOO = new Developer("foo", "foo@example.com");
+    private static final OAuth2AuthenticatedPrincipal PRINCIPAL_FOO = new OAuth2IntrospectionAuthenticatedPrincipal(
+            DEVELOPER_FOO.getLogin(), Map.of("name", DEVELOPER_FOO.getLogin()), null);
+
+    @Mock
+    private GitHubOpaqueTokenIntrospector gitHubOpaqueTokenIntrospector;
+
+    @Test
+    void testIntrospectSignedIdentity() {
+        when(gitHubOpaqueTokenIntrospector.toPrincipal(DEVELOPER_FOO)).thenReturn(PRINCIPAL_FOO);
+        var introspector = new SignedIdentityTokenIntrospector(gitHubOpaqueTokenIntrospector, KEY);
+
+        String token = sign(KEY, SignedIdentityTokenIntrospector.ISSUER, Instant.now()
+                .plus(5, ChronoUnit.MINUTES));
+
+        OAuth2AuthenticatedPrincipal principal = introspector.introspect(token);
+
+        assertSame(PRINCIPAL_FOO, principal);
+        verify(gitHubOpaqueTokenIntrospector, never()).introspect(any());
+    }
+
+    @Test
+    void testIntrospectGitHubToken() {
+        when(gitHubOpaqueTokenIntrospector.introspect(GITHUB_TOKEN)).thenReturn(PRINCIPAL_FOO);
+        var introspector = new SignedIdentityTokenIntrospector(gitHubOpaqueTokenIntrospector, KEY);
+
+        assertSame(PRINCIPAL_FOO, introspector.introspect(GITHUB_TOKEN));
+    }
+
+    @Test
+    void testIntrospectWithoutKeyDelegatesToGitHub() {
+        String token = sign(KEY, SignedIdentityTokenIntrospector.ISSUER, Instant.now()
+                .plus(5, ChronoUnit.MINUTES));
+        when(gitHubOpaqueTokenIntrospector.introspect(token)).thenReturn(PRINCIPAL_FOO);
+        var introspector = new SignedIdentityTokenIntrospector(gitHubOpaqueTokenIntrospector, "");
+
+        assertSame(PRINCIPAL_FOO, introspector.introspect(token));
+    }
+
+    @Test
+    void testIntrospectWithWrongKey() {
+        var introspector = new SignedIdentityTokenIntrospector(gitHubOpaqueTokenIntrospector, KEY);
+        String token = sign("fedcba9876543210fedcba9876543210", SignedIdentityTokenIntrospector.ISSUER,
+                Instant.now()
+                        .plus(5, ChronoUnit.MINUTES));
+
+        assertInvalidToken(introspector, token);
+    }
+
+    @Test
+    void testIntrospectExpiredSignedIdentity() {
+        var introspector = new SignedIdentityTokenIntrospector(gitHubOpaqueTokenIntrospector, KEY);
+        String token = sign(KEY, SignedIdentityTokenIntrospector.ISSUER, Instant.now()
+                .minus(5, ChronoUnit.MINUTES));
+
+        assertInvalidToken(introspector, token);
+    }
+
+    @Test
+    void testIntrospectSignedIdentityWithWrongIssuer() {
+        var introspector = new SignedIdentityTokenIntrospector(gitHubOpaqueTokenIntrospector, KEY);
+        String token = sign(KEY, "someone-else", Instant.now()
+                .plus(5, ChronoUnit.MINUTES));
+
+        assertInvalidToken(introspector, token);
+    }
+
+    @Test
+    void testCreateWithShortKey() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new SignedIdentityTokenIntrospector(gitHubOpaqueTokenIntrospector, "short"));
+
+        assertEquals("The identity assertion key must be at least 32 bytes long", exception.getMessage());
+    }
+
+    private static void assertInvalidToken(SignedIdentityTokenIntrospector introspector, String token) {
+        OAuth2AuthenticationException exception = assertThrows(OAuth2AuthenticationException.class,
+                () -> introspector.introspect(token));
+
+        assertEquals("invalid_token", exception.getError()
+                .getErrorCode());
+    }
+
+    private static String sign(String key, String issuer, Instant expiresAt) {
+        var secretKey = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        var encoder = new NimbusJwtEncoder(new ImmutableSecret<>(secretKey));
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer(issuer)
+                .subject(DEVELOPER_FOO.getLogin())
+                .claim(SignedIdentityTokenIntrospector.EMAIL_CLAIM, DEVELOPER_FOO.getEmail())
+                .issuedAt(expiresAt.minus(10, ChronoUnit.MINUTES))
+                .expiresAt(expiresAt)
+                .build();
+        return encoder.encode(JwtEncoderParameters.from(JwsHeader.with(MacAlgorithm.HS256)
+                .build(), claims))
+                .getTokenValue();
+    }
+
+}
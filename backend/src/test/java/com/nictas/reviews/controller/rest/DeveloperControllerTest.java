@@ -33,6 +33,7 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import com.nictas.reviews.configuration.GitHubOpaqueTokenIntrospector;
 import com.nictas.reviews.configuration.SecurityConfiguration;
+import com.nictas.reviews.controller.rest.dto.CursorSlice;
 import com.nictas.reviews.domain.Developer;
 import com.nictas.reviews.domain.FileMultiplier;
 import com.nictas.reviews.domain.Multiplier;
@@ -41,6 +42,7 @@ import com.nictas.reviews.domain.PullRequestFileDetails.ChangedFile;
 import com.nictas.reviews.domain.PullRequestReview;
 import com.nictas.reviews.error.NotFoundException;
 import com.nictas.reviews.service.DeveloperService;
+import com.nictas.reviews.service.PullRequestReviewCursor;
 import com.nictas.reviews.service.PullRequestReviewService;
 import com.nictas.reviews.service.scheduled.DeveloperSyncService;
 
@@ -250,6 +252,30 @@ class DeveloperControllerTest {
         assertJsonsMatch(expectedResponseBody, responseBody);
     }
 
+    @Test
+    void testGetDeveloperHistoryByCursor() throws Exception {
+        String cursor = PullRequestReviewCursor.of(DEVELOPER_FOO_HISTORY.get(0))
+                .encode();
+        String nextCursor = PullRequestReviewCursor.of(DEVELOPER_FOO_HISTORY.get(1))
+                .encode();
+        when(pullRequestReviewService.getReviewsByDeveloperLogin(DEVELOPER_FOO.getLogin(), cursor, 2))
+                .thenReturn(new CursorSlice<>(DEVELOPER_FOO_HISTORY.subList(0, 2), 2, true, nextCursor));
+
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.get("/developers/foo/history/cursor")
+                .param("cursor", cursor)
+                .param("size", "2")
+                .with(SecurityMockMvcRequestPostProcessors.opaqueToken()
+                        .authorities(ControllerTestData.AUTHORITIES_USER)))
+                .andExpect(MockMvcResultMatchers.status()
+                        .isOk())
+                .andReturn();
+
+        String responseBody = mvcResult.getResponse()
+                .getContentAsString();
+        String expectedResponseBody = getResourceAsString(getClass(), "developer-history-cursor-response.json");
+        assertJsonsMatch(expectedResponseBody, responseBody);
+    }
+
     @Test
     void testDeleteDeveloper() throws Exception {
         mockMvc.perform(MockMvcRequestBuilders.delete("/developers/foo")
@@ -2,19 +2,15 @@ package com.nictas.reviews.controller.rest;
 
 import static com.nictas.reviews.TestUtils.assertJsonsMatch;
 import static com.nictas.reviews.TestUtils.getResourceAsString;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -23,7 +19,6 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
-import org.springframework.scheduling.TaskScheduler;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
@@ -33,9 +28,15 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nictas.reviews.configuration.GitHubOpaqueTokenIntrospector;
 import com.nictas.reviews.configuration.SecurityConfiguration;
+import com.nictas.reviews.controller.rest.dto.MultiplierPreview;
+import com.nictas.reviews.controller.rest.dto.MultiplierPreview.DeveloperScoreChange;
+import com.nictas.reviews.controller.rest.dto.MultiplierPreview.ScoreChangeDistribution;
 import com.nictas.reviews.domain.FileMultiplier;
 import com.nictas.reviews.domain.Multiplier;
+import com.nictas.reviews.domain.MultiplierApplicationJob;
 import com.nictas.reviews.error.NotFoundException;
+import com.nictas.reviews.service.MultiplierApplicationJobService;
+import com.nictas.reviews.service.MultiplierPreviewService;
 import com.nictas.reviews.service.MultiplierService;
 import com.nictas.reviews.service.scheduled.MultiplierApplierService;
 
@@ -85,6 +86,46 @@ class MultiplierControllerTest {
             .createdAt(OffsetDateTime.of(2024, 5, 13, 6, 0, 0, 0, ZoneOffset.UTC))
             .build();
 
+    private static final MultiplierApplicationJob JOB = MultiplierApplicationJob.builder()
+            .id(UUID.fromString("5c3b3a52-3f0c-4f1e-9d8e-0b7f6a0c2d11"))
+            .multiplier(MULTIPLIER_1)
+            .lastReviewId(UUID.fromString("91a8bdeb-8457-4905-bd08-9d2a46f27b92"))
+            .processedReviews(500)
+            .totalReviews(1200)
+            .startedAt(OffsetDateTime.of(2024, 5, 13, 6, 0, 0, 0, ZoneOffset.UTC))
+            .updatedAt(OffsetDateTime.of(2024, 5, 13, 6, 0, 10, 0, ZoneOffset.UTC))
+            .build();
+
+    private static final MultiplierPreview PREVIEW = MultiplierPreview.builder()
+            .samplePercentage(10)
+            .scannedReviews(120)
+            .changedReviews(45)
+            .scoreChanges(ScoreChangeDistribution.builder()
+                    .minimum(-12.5)
+                    .median(0.0)
+                    .mean(1.5)
+                    .percentile90(8.0)
+                    .percentile99(20.0)
+                    .maximum(31.0)
+                    .build())
+            .developers(List.of( //
+                    DeveloperScoreChange.builder()
+                            .login("bar")
+                            .currentScore(130.0)
+                            .previewScore(110.0)
+                            .currentRank(2)
+                            .previewRank(1)
+                            .build(), //
+                    DeveloperScoreChange.builder()
+                            .login("foo")
+                            .currentScore(120.0)
+                            .previewScore(200.0)
+                            .currentRank(1)
+                            .previewRank(2)
+                            .build() //
+            ))
+            .build();
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -98,7 +139,10 @@ class MultiplierControllerTest {
     private MultiplierApplierService multiplierApplierService;
 
     @MockBean
-    private TaskScheduler taskScheduler;
+    private MultiplierApplicationJobService multiplierApplicationJobService;
+
+    @MockBean
+    private MultiplierPreviewService multiplierPreviewService;
 
     @MockBean
     private GitHubOpaqueTokenIntrospector introspector;
@@ -198,6 +242,39 @@ class MultiplierControllerTest {
         assertJsonsMatch(expectedResponseBody, responseBody);
     }
 
+    @Test
+    void testGetJob() throws Exception {
+        when(multiplierApplicationJobService.getJob(JOB.getId())).thenReturn(JOB);
+
+        MvcResult mvcResult = mockMvc
+                .perform(MockMvcRequestBuilders.get("/multipliers/jobs/5c3b3a52-3f0c-4f1e-9d8e-0b7f6a0c2d11")
+                        .with(SecurityMockMvcRequestPostProcessors.opaqueToken()
+                                .authorities(ControllerTestData.AUTHORITIES_USER)))
+                .andExpect(MockMvcResultMatchers.status()
+                        .isOk())
+                .andReturn();
+
+        String responseBody = mvcResult.getResponse()
+                .getContentAsString();
+        String expectedResponseBody = getResourceAsString(getClass(), "multiplier-job-response.json");
+        assertJsonsMatch(expectedResponseBody, responseBody);
+    }
+
+    @Test
+    void testGetJobNotFound() throws Exception {
+        NotFoundException e = new NotFoundException(
+                "Could not find multiplier application job with ID: 5c3b3a52-3f0c-4f1e-9d8e-0b7f6a0c2d11");
+        when(multiplierApplicationJobService.getJob(JOB.getId())).thenThrow(e);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/multipliers/jobs/5c3b3a52-3f0c-4f1e-9d8e-0b7f6a0c2d11")
+                .with(SecurityMockMvcRequestPostProcessors.opaqueToken()
+                        .authorities(ControllerTestData.AUTHORITIES_USER)))
+                .andExpect(MockMvcResultMatchers.status()
+                        .isNotFound())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                        .value(e.getMessage()));
+    }
+
     @Test
     void testCreateMultiplier() throws Exception {
         when(multiplierService.saveMultiplier(MULTIPLIER_1)).thenReturn(MULTIPLIER_1);
@@ -230,6 +307,58 @@ class MultiplierControllerTest {
                         .isForbidden());
     }
 
+    @Test
+    void testPreviewMultiplier() throws Exception {
+        when(multiplierPreviewService.previewMultiplier(MULTIPLIER_2, 10)).thenReturn(PREVIEW);
+
+        String multiplierJson = objectMapper.writeValueAsString(MULTIPLIER_2);
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.post("/multipliers/preview")
+                .param("samplePercentage", "10")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(multiplierJson)
+                .with(SecurityMockMvcRequestPostProcessors.opaqueToken()
+                        .authorities(ControllerTestData.AUTHORITIES_ADMIN)))
+                .andExpect(MockMvcResultMatchers.status()
+                        .isOk())
+                .andReturn();
+
+        String responseBody = mvcResult.getResponse()
+                .getContentAsString();
+        String expectedResponseBody = getResourceAsString(getClass(), "multiplier-preview-response.json");
+        assertJsonsMatch(expectedResponseBody, responseBody);
+    }
+
+    @Test
+    void testPreviewMultiplierWithInvalidSamplePercentage() throws Exception {
+        IllegalArgumentException e = new IllegalArgumentException(
+                "Sample percentage must be greater than 0 and at most 100: 0.0");
+        when(multiplierPreviewService.previewMultiplier(MULTIPLIER_2, 0)).thenThrow(e);
+
+        String multiplierJson = objectMapper.writeValueAsString(MULTIPLIER_2);
+        mockMvc.perform(MockMvcRequestBuilders.post("/multipliers/preview")
+                .param("samplePercentage", "0")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(multiplierJson)
+                .with(SecurityMockMvcRequestPostProcessors.opaqueToken()
+                        .authorities(ControllerTestData.AUTHORITIES_ADMIN)))
+                .andExpect(MockMvcResultMatchers.status()
+                        .isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                        .value(e.getMessage()));
+    }
+
+    @Test
+    void testPreviewMultiplierForbidden() throws Exception {
+        String multiplierJson = objectMapper.writeValueAsString(MULTIPLIER_2);
+        mockMvc.perform(MockMvcRequestBuilders.post("/multipliers/preview")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(multiplierJson)
+                .with(SecurityMockMvcRequestPostProcessors.opaqueToken()
+                        .authorities(ControllerTestData.AUTHORITIES_USER)))
+                .andExpect(MockMvcResultMatchers.status()
+                        .isForbidden());
+    }
+
     @Test
     void testDeleteMultiplier() throws Exception {
         mockMvc.perform(MockMvcRequestBuilders.delete("/multipliers/2f7fc3e6-b54f-4593-aaca-98aeed3d6d02")
@@ -268,23 +397,19 @@ class MultiplierControllerTest {
 
     @Test
     void testApplyLatestMultiplier() throws Exception {
-        mockMvc.perform(MockMvcRequestBuilders.post("/multipliers/latest/apply")
+        when(multiplierApplierService.startApplyingLatestMultiplier()).thenReturn(JOB);
+
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.post("/multipliers/latest/apply")
                 .with(SecurityMockMvcRequestPostProcessors.opaqueToken()
                         .authorities(ControllerTestData.AUTHORITIES_ADMIN)))
                 .andExpect(MockMvcResultMatchers.status()
-                        .isAccepted());
-
-        ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
-        ArgumentCaptor<Instant> instantCaptor = ArgumentCaptor.forClass(Instant.class);
-        verify(taskScheduler).schedule(runnableCaptor.capture(), instantCaptor.capture());
-
-        Runnable runnable = runnableCaptor.getValue();
-        runnable.run();
-        verify(multiplierApplierService).applyLatestMultiplier();
+                        .isAccepted())
+                .andReturn();
 
-        Instant instant = instantCaptor.getValue();
-        Instant now = Instant.now();
-        assertTrue(instant.isBefore(now) || instant.equals(now));
+        String responseBody = mvcResult.getResponse()
+                .getContentAsString();
+        String expectedResponseBody = getResourceAsString(getClass(), "multiplier-job-response.json");
+        assertJsonsMatch(expectedResponseBody, responseBody);
     }
 
     @Test
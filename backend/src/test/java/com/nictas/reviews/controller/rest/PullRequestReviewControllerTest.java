@@ -29,7 +29,9 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nictas.reviews.configuration.GitHubOpaqueTokenIntrospector;
 import com.nictas.reviews.configuration.SecurityConfiguration;
+import com.nictas.reviews.controller.rest.dto.CursorSlice;
 import com.nictas.reviews.controller.rest.dto.PullRequestAssignRequest;
+import com.nictas.reviews.controller.rest.dto.PullRequestAssignResult;
 import com.nictas.reviews.controller.rest.dto.PullRequestSearchRequest;
 import com.nictas.reviews.domain.Developer;
 import com.nictas.reviews.domain.FileMultiplier;
@@ -37,7 +39,9 @@ import com.nictas.reviews.domain.Multiplier;
 import com.nictas.reviews.domain.PullRequestFileDetails;
 import com.nictas.reviews.domain.PullRequestFileDetails.ChangedFile;
 import com.nictas.reviews.domain.PullRequestReview;
+import com.nictas.reviews.error.ConflictException;
 import com.nictas.reviews.error.NotFoundException;
+import com.nictas.reviews.service.PullRequestReviewCursor;
 import com.nictas.reviews.service.PullRequestReviewService;
 
 @WebMvcTest(PullRequestReviewController.class)
@@ -171,6 +175,42 @@ class PullRequestReviewControllerTest {
         assertJsonsMatch(expectedResponseBody, responseBody);
     }
 
+    @Test
+    void testGetReviewsByCursor() throws Exception {
+        String nextCursor = PullRequestReviewCursor.of(REVIEW_2)
+                .encode();
+        when(pullRequestReviewService.getReviews(null, 2))
+                .thenReturn(new CursorSlice<>(List.of(REVIEW_1, REVIEW_2), 2, true, nextCursor));
+
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.get("/reviews/cursor")
+                .param("size", "2")
+                .with(SecurityMockMvcRequestPostProcessors.opaqueToken()
+                        .authorities(ControllerTestData.AUTHORITIES_USER)))
+                .andExpect(MockMvcResultMatchers.status()
+                        .isOk())
+                .andReturn();
+
+        String responseBody = mvcResult.getResponse()
+                .getContentAsString();
+        String expectedResponseBody = getResourceAsString(getClass(), "reviews-cursor-response.json");
+        assertJsonsMatch(expectedResponseBody, responseBody);
+    }
+
+    @Test
+    void testGetReviewsByInvalidCursor() throws Exception {
+        IllegalArgumentException e = new IllegalArgumentException("Invalid cursor: foo");
+        when(pullRequestReviewService.getReviews("foo", 20)).thenThrow(e);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/reviews/cursor")
+                .param("cursor", "foo")
+                .with(SecurityMockMvcRequestPostProcessors.opaqueToken()
+                        .authorities(ControllerTestData.AUTHORITIES_USER)))
+                .andExpect(MockMvcResultMatchers.status()
+                        .isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                        .value(e.getMessage()));
+    }
+
     @Test
     void testGetReview() throws Exception {
         when(pullRequestReviewService.getReview(REVIEW_1.getId())).thenReturn(REVIEW_1);
@@ -295,6 +335,59 @@ class PullRequestReviewControllerTest {
 
     }
 
+    @Test
+    void testAssignReviewerWhileAlreadyBeingAssigned() throws Exception {
+        PullRequestAssignRequest request = new PullRequestAssignRequest("https://github.com/foo/bar/pull/87",
+                List.of(DEVELOPER_FOO.getLogin()), Collections.emptyList());
+        String requestBody = objectMapper.writeValueAsString(request);
+
+        ConflictException e = new ConflictException(
+                "Pull request https://github.com/foo/bar/pull/87 is already being assigned with different parameters");
+        when(pullRequestReviewService.assign(request.getPullRequestUrl(), request.getAssigneeList(),
+                request.getAssigneeExclusionList())).thenThrow(e);
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/reviews/assign")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody)
+                .with(SecurityMockMvcRequestPostProcessors.opaqueToken()
+                        .authorities(ControllerTestData.AUTHORITIES_USER)))
+                .andExpect(MockMvcResultMatchers.status()
+                        .isConflict())
+                .andExpect(MockMvcResultMatchers.content()
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message")
+                        .value(e.getMessage()));
+    }
+
+    @Test
+    void testAssignReviewersInBatch() throws Exception {
+        List<PullRequestAssignRequest> requests = List.of(
+                new PullRequestAssignRequest("https://github.com/foo/bar/pull/87", Collections.emptyList(),
+                        Collections.emptyList()),
+                new PullRequestAssignRequest("https://github.com/foo/bar/pull/88", Collections.emptyList(),
+                        Collections.emptyList()));
+        String requestBody = objectMapper.writeValueAsString(requests);
+
+        when(pullRequestReviewService.assignBatch(requests)).thenReturn(List.of( //
+                PullRequestAssignResult.success("https://github.com/foo/bar/pull/87", List.of(REVIEW_1)),
+                PullRequestAssignResult.failure("https://github.com/foo/bar/pull/88",
+                        "Could not find developer with lowest score")));
+
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.post("/reviews/assign/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody)
+                .with(SecurityMockMvcRequestPostProcessors.opaqueToken()
+                        .authorities(ControllerTestData.AUTHORITIES_USER)))
+                .andExpect(MockMvcResultMatchers.status()
+                        .isOk())
+                .andReturn();
+
+        String responseBody = mvcResult.getResponse()
+                .getContentAsString();
+        String expectedResponseBody = getResourceAsString(getClass(), "reviews-assign-batch-response.json");
+        assertJsonsMatch(expectedResponseBody, responseBody);
+    }
+
     @Test
     void testDeleteReview() throws Exception {
         mockMvc.perform(MockMvcRequestBuilders.delete("/reviews/91a8bdeb-8457-4905-bd08-9d2a46f27b92")
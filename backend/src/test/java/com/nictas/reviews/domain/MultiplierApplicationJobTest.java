@@ -0,0 +1,47 @@
+package com.nictas.reviews.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+class MultiplierApplicationJobTest {
+
+    private static final OffsetDateTime STARTED_AT = OffsetDateTime.of(2024, 5, 13, 6, 0, 0, 0, ZoneOffset.UTC);
+
+    @Test
+    void testGetReviewsPerSecond() {
+        MultiplierApplicationJob job = MultiplierApplicationJob.builder()
+                .processedReviews(500)
+                .startedAt(STARTED_AT)
+                .updatedAt(STARTED_AT.plusSeconds(10))
+                .build();
+
+        assertEquals(50., job.getReviewsPerSecond());
+    }
+
+    @Test
+    void testGetReviewsPerSecondOfFinishedJob() {
+        MultiplierApplicationJob job = MultiplierApplicationJob.builder()
+                .processedReviews(500)
+                .startedAt(STARTED_AT)
+                .updatedAt(STARTED_AT.plusSeconds(20))
+                .finishedAt(STARTED_AT.plusSeconds(20))
+                .build();
+
+        assertEquals(25., job.getReviewsPerSecond());
+    }
+
+    @Test
+    void testGetReviewsPerSecondWithoutElapsedTime() {
+        MultiplierApplicationJob job = MultiplierApplicationJob.builder()
+                .startedAt(STARTED_AT)
+                .updatedAt(STARTED_AT)
+                .build();
+
+        assertEquals(0., job.getReviewsPerSecond());
+    }
+
+}
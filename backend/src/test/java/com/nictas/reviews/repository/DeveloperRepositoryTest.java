@@ -114,6 +114,16 @@ class DeveloperRepositoryTest {
         assertEquals(DEVELOPER_FOO, developer);
     }
 
+    @Test
+    void testInsertAll() {
+        List<Developer> developers = List.of(DEVELOPER_FOO, DEVELOPER_BAR, DEVELOPER_BAZ);
+
+        developerRepository.insertAll(developers);
+
+        Page<Developer> developersPage = developerRepository.findAll(Pageable.unpaged());
+        assertEquals(new PageImpl<>(developers, Pageable.unpaged(), developers.size()), developersPage);
+    }
+
     @Test
     void testFindByIdWithZeroDevelopers() {
         Optional<Developer> developer = developerRepository.findById(DEVELOPER_FOO.getLogin());
@@ -180,6 +190,39 @@ class DeveloperRepositoryTest {
         assertEquals(88.8, developer.getScore());
     }
 
+    @Test
+    void testAddToScore() {
+        developerRepository.save(DEVELOPER_FOO);
+
+        int updatedRows = developerRepository.addToScore(DEVELOPER_FOO.getLogin(), 2.2);
+
+        assertEquals(1, updatedRows);
+        Developer developer = developerRepository.findById(DEVELOPER_FOO.getLogin())
+                .get();
+        assertEquals(90., developer.getScore(), 0.001);
+    }
+
+    @Test
+    void testAddToScoreWithUnknownLogin() {
+        int updatedRows = developerRepository.addToScore(DEVELOPER_FOO.getLogin(), 2.2);
+
+        assertEquals(0, updatedRows);
+    }
+
+    @Test
+    void testUpdateEmail() {
+        developerRepository.save(DEVELOPER_FOO);
+        developerRepository.addToScore(DEVELOPER_FOO.getLogin(), 2.2);
+
+        int updatedRows = developerRepository.updateEmail(DEVELOPER_FOO.getLogin(), "foo@example.org");
+
+        assertEquals(1, updatedRows);
+        Developer developer = developerRepository.findById(DEVELOPER_FOO.getLogin())
+                .get();
+        assertEquals("foo@example.org", developer.getEmail());
+        assertEquals(90., developer.getScore(), 0.001);
+    }
+
     @Test
     void testDeleteById() {
         developerRepository.save(DEVELOPER_FOO);
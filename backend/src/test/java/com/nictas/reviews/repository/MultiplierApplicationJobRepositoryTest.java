@@ -0,0 +1,202 @@
+package com.nictas.reviews.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ContextConfiguration;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.nictas.reviews.FairReviewsPostgreSQLContainer;
+import com.nictas.reviews.domain.Multiplier;
+import com.nictas.reviews.domain.MultiplierApplicationJob;
+import com.nictas.reviews.domain.MultiplierApplicationJob.Status;
+
+@Testcontainers
+@DataJpaTest
+@ContextConfiguration(initializers = {MultiplierApplicationJobRepositoryTest.Initializer.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MultiplierApplicationJobRepositoryTest {
+
+    @Container
+    public static final FairReviewsPostgreSQLContainer POSTGRESQL_CONTAINER = FairReviewsPostgreSQLContainer
+            .getInstance();
+
+    static class Initializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+        public void initialize(ConfigurableApplicationContext configurableApplicationContext) {
+            TestPropertyValues
+                    .of("spring.datasource.url=" + POSTGRESQL_CONTAINER.getJdbcUrl(),
+                            "spring.datasource.username=" + POSTGRESQL_CONTAINER.getUsername(),
+                            "spring.datasource.password=" + POSTGRESQL_CONTAINER.getPassword())
+                    .applyTo(configurableApplicationContext.getEnvironment());
+        }
+
+    }
+
+    private static final Multiplier MULTIPLIER = Multiplier.builder()
+            .id(UUID.fromString("98626460-80e1-4acc-b2ea-b28e018ca6d2"))
+            .defaultAdditionsMultiplier(1.0)
+            .defaultDeletionsMultiplier(0.2)
+            .createdAt(OffsetDateTime.of(2024, 5, 13, 6, 0, 0, 0, ZoneOffset.UTC))
+            .build();
+
+    private static final MultiplierApplicationJob JOB_1 = MultiplierApplicationJob.builder()
+            .id(UUID.fromString("5c3b3a52-3f0c-4f1e-9d8e-0b7f6a0c2d11"))
+            .multiplier(MULTIPLIER)
+            .status(Status.COMPLETED)
+            .processedReviews(3)
+            .totalReviews(3)
+            .startedAt(OffsetDateTime.of(2024, 5, 13, 6, 0, 0, 0, ZoneOffset.UTC))
+            .build();
+
+    private static final MultiplierApplicationJob JOB_2 = MultiplierApplicationJob.builder()
+            .id(UUID.fromString("0b7c61f0-6d5e-4ab2-8a3c-5f0e7f3b8c21"))
+            .multiplier(MULTIPLIER)
+            .lastReviewId(UUID.fromString("91a8bdeb-8457-4905-bd08-9d2a46f27b92"))
+            .processedReviews(1)
+            .totalReviews(3)
+            .startedAt(OffsetDateTime.of(2024, 5, 14, 6, 0, 0, 0, ZoneOffset.UTC))
+            .build();
+
+    @Autowired
+    private MultiplierRepository multiplierRepository;
+    @Autowired
+    private MultiplierApplicationJobRepository multiplierApplicationJobRepository;
+
+    @BeforeEach
+    void setUp() {
+        multiplierRepository.save(MULTIPLIER);
+    }
+
+    @Test
+    void testSaveAndFindById() {
+        multiplierApplicationJobRepository.save(JOB_2);
+
+        MultiplierApplicationJob job = multiplierApplicationJobRepository.findById(JOB_2.getId())
+                .get();
+        assertEquals(JOB_2, job);
+    }
+
+    @Test
+    void testFindByStatus() {
+        multiplierApplicationJobRepository.save(JOB_1);
+        multiplierApplicationJobRepository.save(JOB_2);
+
+        List<MultiplierApplicationJob> runningJobs = multiplierApplicationJobRepository
+                .findByStatusOrderByStartedAt(Status.RUNNING);
+        assertEquals(List.of(JOB_2), runningJobs);
+    }
+
+    @Test
+    void testFindByStatusWithZeroJobs() {
+        List<MultiplierApplicationJob> runningJobs = multiplierApplicationJobRepository
+                .findByStatusOrderByStartedAt(Status.RUNNING);
+        assertTrue(runningJobs.isEmpty());
+    }
+
+    @Test
+    void testClaimExpiredLease() {
+        OffsetDateTime now = OffsetDateTime.now();
+        multiplierApplicationJobRepository.save(JOB_2.withOwner("foo")
+                .withLeaseExpiresAt(now.minusMinutes(1)));
+
+        int claimedJobs = multiplierApplicationJobRepository.claimExpiredLease(JOB_2.getId(), Status.RUNNING, "bar",
+                now.plusMinutes(5), now);
+
+        assertEquals(1, claimedJobs);
+        MultiplierApplicationJob job = multiplierApplicationJobRepository.findById(JOB_2.getId())
+                .get();
+        assertEquals("bar", job.getOwner());
+    }
+
+    @Test
+    void testClaimExpiredLeaseWithoutLease() {
+        OffsetDateTime now = OffsetDateTime.now();
+        multiplierApplicationJobRepository.save(JOB_2);
+
+        int claimedJobs = multiplierApplicationJobRepository.claimExpiredLease(JOB_2.getId(), Status.RUNNING, "bar",
+                now.plusMinutes(5), now);
+
+        assertEquals(1, claimedJobs);
+    }
+
+    @Test
+    void testClaimExpiredLeaseWithActiveLease() {
+        OffsetDateTime now = OffsetDateTime.now();
+        multiplierApplicationJobRepository.save(JOB_2.withOwner("foo")
+                .withLeaseExpiresAt(now.plusMinutes(1)));
+
+        int claimedJobs = multiplierApplicationJobRepository.claimExpiredLease(JOB_2.getId(), Status.RUNNING, "bar",
+                now.plusMinutes(5), now);
+
+        assertEquals(0, claimedJobs);
+        MultiplierApplicationJob job = multiplierApplicationJobRepository.findById(JOB_2.getId())
+                .get();
+        assertEquals("foo", job.getOwner());
+    }
+
+    @Test
+    void testRenewLease() {
+        OffsetDateTime now = OffsetDateTime.now();
+        multiplierApplicationJobRepository.save(JOB_2.withOwner("foo")
+                .withLeaseExpiresAt(now));
+
+        assertEquals(1, multiplierApplicationJobRepository.renewLease(JOB_2.getId(), Status.RUNNING, "foo",
+                now.plusMinutes(5)));
+        assertEquals(0, multiplierApplicationJobRepository.renewLease(JOB_2.getId(), Status.RUNNING, "bar",
+                now.plusMinutes(5)));
+    }
+
+    @Test
+    void testRenewLeaseOfSupersededJob() {
+        OffsetDateTime now = OffsetDateTime.now();
+        multiplierApplicationJobRepository.save(JOB_2.withOwner("foo")
+                .withStatus(Status.SUPERSEDED)
+                .withLeaseExpiresAt(now));
+
+        assertEquals(0, multiplierApplicationJobRepository.renewLease(JOB_2.getId(), Status.RUNNING, "foo",
+                now.plusMinutes(5)));
+    }
+
+    @Test
+    void testUpdateStatus() {
+        OffsetDateTime now = OffsetDateTime.now();
+        multiplierApplicationJobRepository.save(JOB_2);
+
+        assertEquals(1, multiplierApplicationJobRepository.updateStatus(JOB_2.getId(), Status.RUNNING,
+                Status.SUPERSEDED, now));
+        assertEquals(0, multiplierApplicationJobRepository.updateStatus(JOB_2.getId(), Status.RUNNING,
+                Status.SUPERSEDED, now));
+        MultiplierApplicationJob job = multiplierApplicationJobRepository.findById(JOB_2.getId())
+                .get();
+        assertEquals(Status.SUPERSEDED, job.getStatus());
+        assertNotNull(job.getFinishedAt());
+    }
+
+    @Test
+    void testSaveSecondRunningJob() {
+        multiplierApplicationJobRepository.saveAndFlush(JOB_2);
+        MultiplierApplicationJob secondJob = JOB_2.withId(UUID.fromString("3f1f5b8e-6a8c-4c2e-9b8e-2d7f1c0a9e55"));
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> multiplierApplicationJobRepository.saveAndFlush(secondJob));
+    }
+
+}
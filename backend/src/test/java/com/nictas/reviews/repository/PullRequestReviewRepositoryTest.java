@@ -1,6 +1,7 @@
 package com.nictas.reviews.repository;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.OffsetDateTime;
@@ -17,6 +18,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.util.TestPropertyValues;
 import org.springframework.context.ApplicationContextInitializer;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -32,6 +34,7 @@ import com.nictas.reviews.domain.Multiplier;
 import com.nictas.reviews.domain.PullRequestFileDetails;
 import com.nictas.reviews.domain.PullRequestFileDetails.ChangedFile;
 import com.nictas.reviews.domain.PullRequestReview;
+import com.nictas.reviews.domain.PullRequestReviewScore;
 
 @Testcontainers
 @DataJpaTest
@@ -303,6 +306,154 @@ class PullRequestReviewRepositoryTest {
         assertEquals(expectedReviewsPage, reviewsPage);
     }
 
+    @Test
+    void testFindNewest() {
+        List<PullRequestReview> reviews = getReviewsCreatedInOrder();
+        reviews.forEach(pullRequestReviewRepository::save);
+
+        List<PullRequestReview> firstSlice = pullRequestReviewRepository.findNewest(Limit.of(2));
+        PullRequestReview lastReview = firstSlice.get(1);
+        List<PullRequestReview> secondSlice = pullRequestReviewRepository.findNewestBefore(lastReview.getCreatedAt(),
+                lastReview.getId(), Limit.of(2));
+        PullRequestReview secondLastReview = secondSlice.get(1);
+        List<PullRequestReview> lastSlice = pullRequestReviewRepository
+                .findNewestBefore(secondLastReview.getCreatedAt(), secondLastReview.getId(), Limit.of(2));
+
+        assertEquals(List.of(REVIEW_4, REVIEW_3), firstSlice);
+        assertEquals(List.of(REVIEW_2, REVIEW_1), secondSlice);
+        assertTrue(lastSlice.isEmpty());
+    }
+
+    @Test
+    void testFindNewestByDeveloperLogin() {
+        List<PullRequestReview> reviews = getReviewsCreatedInOrder();
+        reviews.forEach(pullRequestReviewRepository::save);
+
+        List<PullRequestReview> firstSlice = pullRequestReviewRepository
+                .findNewestByDeveloperLogin(DEVELOPER_FOO.getLogin(), Limit.of(2));
+        PullRequestReview lastReview = firstSlice.get(1);
+        List<PullRequestReview> secondSlice = pullRequestReviewRepository.findNewestByDeveloperLoginBefore(
+                DEVELOPER_FOO.getLogin(), lastReview.getCreatedAt(), lastReview.getId(), Limit.of(2));
+
+        assertEquals(List.of(REVIEW_4, REVIEW_2), firstSlice);
+        assertEquals(List.of(REVIEW_1), secondSlice);
+    }
+
+    @Test
+    void testFindWithDifferentMultiplierIdsAfter() {
+        List<PullRequestReview> reviews = List.of(REVIEW_1, REVIEW_2, REVIEW_3, REVIEW_4);
+        reviews.forEach(pullRequestReviewRepository::save);
+
+        List<PullRequestReview> firstChunk = pullRequestReviewRepository
+                .findWithDifferentMultiplierIdsAfter(MULTIPLIER_2.getId(), new UUID(0, 0), Limit.of(1));
+        List<PullRequestReview> secondChunk = pullRequestReviewRepository
+                .findWithDifferentMultiplierIdsAfter(MULTIPLIER_2.getId(), REVIEW_1.getId(), Limit.of(1));
+        List<PullRequestReview> lastChunk = pullRequestReviewRepository
+                .findWithDifferentMultiplierIdsAfter(MULTIPLIER_2.getId(), REVIEW_2.getId(), Limit.of(1));
+
+        assertEquals(List.of(REVIEW_1), firstChunk);
+        assertEquals(List.of(REVIEW_2), secondChunk);
+        assertTrue(lastChunk.isEmpty());
+    }
+
+    @Test
+    void testFindScoresInIdRange() {
+        List<PullRequestReview> reviews = List.of(REVIEW_1, REVIEW_2, REVIEW_3, REVIEW_4);
+        reviews.forEach(pullRequestReviewRepository::save);
+
+        List<PullRequestReviewScore> range = pullRequestReviewRepository.findScoresInIdRange(new UUID(0, 0),
+                REVIEW_2.getId(), Limit.of(10));
+        List<PullRequestReviewScore> chunk = pullRequestReviewRepository.findScoresInIdRange(REVIEW_1.getId(),
+                REVIEW_2.getId(), Limit.of(1));
+
+        assertEquals(List.of(toScore(REVIEW_1), toScore(REVIEW_4), toScore(REVIEW_2)), range);
+        assertEquals(List.of(toScore(REVIEW_4)), chunk);
+    }
+
+    @Test
+    void testCountWithDifferentMultiplierIds() {
+        List<PullRequestReview> reviews = List.of(REVIEW_1, REVIEW_2, REVIEW_3, REVIEW_4);
+        reviews.forEach(pullRequestReviewRepository::save);
+
+        assertEquals(2, pullRequestReviewRepository.countWithDifferentMultiplierIds(MULTIPLIER_1.getId()));
+    }
+
+    @Test
+    void testFindDifferentMultipliers() {
+        List<PullRequestReview> reviews = List.of(REVIEW_1, REVIEW_2, REVIEW_3, REVIEW_4);
+        reviews.forEach(pullRequestReviewRepository::save);
+
+        assertEquals(List.of(MULTIPLIER_1), pullRequestReviewRepository.findDifferentMultipliers(MULTIPLIER_2.getId()));
+    }
+
+    @Test
+    void testUpdateMultiplierIds() {
+        List<PullRequestReview> reviews = List.of(REVIEW_1, REVIEW_2, REVIEW_3, REVIEW_4);
+        reviews.forEach(pullRequestReviewRepository::save);
+
+        int updatedReviews = pullRequestReviewRepository.updateMultiplierIds(MULTIPLIER_1.getId(),
+                MULTIPLIER_2.getId());
+
+        assertEquals(2, updatedReviews);
+        assertEquals(4, pullRequestReviewRepository.findByMultiplierId(MULTIPLIER_2.getId(), Pageable.unpaged())
+                .getTotalElements());
+    }
+
+    @Test
+    void testUpdateMultiplierIdsWithoutFileExtensions() {
+        PullRequestReview yamlReview = REVIEW_1.withId(UUID.fromString("3f1f5b8e-6a8c-4c2e-9b8e-2d7f1c0a9e55"))
+                .withPullRequestFileDetails(new PullRequestFileDetails(3, 1, List.of(//
+                        ChangedFile.builder()
+                                .name("src/main/resources/application.yaml")
+                                .additions(3)
+                                .deletions(1)
+                                .build())));
+        List<PullRequestReview> reviews = List.of(REVIEW_1, REVIEW_2, yamlReview);
+        reviews.forEach(pullRequestReviewRepository::save);
+        pullRequestReviewRepository.flush();
+
+        int updatedReviews = pullRequestReviewRepository.updateMultiplierIdsWithoutFileExtensions(
+                MULTIPLIER_1.getId(), MULTIPLIER_2.getId(), new String[] {".java", ".ts"});
+
+        assertEquals(1, updatedReviews);
+        assertEquals(2, pullRequestReviewRepository.countWithDifferentMultiplierIds(MULTIPLIER_2.getId()));
+    }
+
+    @Test
+    void testUpdateMultiplierIdsWithoutFileExtensionsIgnoresDirectoryNames() {
+        PullRequestReview review = REVIEW_1.withPullRequestFileDetails(new PullRequestFileDetails(3, 1, List.of(//
+                ChangedFile.builder()
+                        .name("src/main.java/README")
+                        .additions(3)
+                        .deletions(1)
+                        .build())));
+        pullRequestReviewRepository.save(review);
+        pullRequestReviewRepository.flush();
+
+        int updatedReviews = pullRequestReviewRepository.updateMultiplierIdsWithoutFileExtensions(
+                MULTIPLIER_1.getId(), MULTIPLIER_2.getId(), new String[] {".java"});
+
+        assertEquals(1, updatedReviews);
+    }
+
+    @Test
+    void testUpdateAll() {
+        pullRequestReviewRepository.save(REVIEW_1);
+        pullRequestReviewRepository.save(REVIEW_2);
+
+        pullRequestReviewRepository.updateAll(List.of(REVIEW_1.withScore(1.)
+                .withMultiplier(MULTIPLIER_2),
+                REVIEW_2.withScore(2.)
+                        .withMultiplier(MULTIPLIER_2)));
+
+        Page<PullRequestReview> reviewsPage = pullRequestReviewRepository.findByMultiplierId(MULTIPLIER_2.getId(),
+                Pageable.unpaged());
+        assertEquals(2, reviewsPage.getTotalElements());
+        assertEquals(1., pullRequestReviewRepository.findById(REVIEW_1.getId())
+                .get()
+                .getScore());
+    }
+
     @Test
     void testUpdate() {
         pullRequestReviewRepository.save(REVIEW_1);
@@ -313,6 +464,32 @@ class PullRequestReviewRepositoryTest {
         assertEquals(21.7, review.getScore());
     }
 
+    @Test
+    void testCopyReviews() {
+        Developer developerBaz = new Developer("baz", "baz@example.com");
+        developerRepository.save(developerBaz);
+        List<PullRequestReview> reviews = List.of(REVIEW_1, REVIEW_2, REVIEW_3);
+        reviews.forEach(pullRequestReviewRepository::save);
+
+        int copiedReviews = pullRequestReviewRepository.copyReviews(DEVELOPER_FOO.getLogin(),
+                List.of(DEVELOPER_BAR.getLogin(), developerBaz.getLogin()));
+
+        assertEquals(4, copiedReviews);
+        List<PullRequestReview> copiesOfBaz = pullRequestReviewRepository
+                .findByDeveloperLogin(developerBaz.getLogin(), Pageable.unpaged())
+                .getContent();
+        assertEquals(2, copiesOfBaz.size());
+        for (PullRequestReview copy : copiesOfBaz) {
+            PullRequestReview original = copy.getPullRequestUrl()
+                    .equals(REVIEW_1.getPullRequestUrl()) ? REVIEW_1 : REVIEW_2;
+            assertNotEquals(original.getId(), copy.getId());
+            assertEquals(original.withId(copy.getId())
+                    .withDeveloper(developerBaz), copy);
+        }
+        assertEquals(3, pullRequestReviewRepository.findByDeveloperLogin(DEVELOPER_BAR.getLogin(), Pageable.unpaged())
+                .getTotalElements());
+    }
+
     @Test
     void testDeleteById() {
         pullRequestReviewRepository.save(REVIEW_1);
@@ -323,4 +500,16 @@ class PullRequestReviewRepositoryTest {
         assertTrue(review.isEmpty());
     }
 
+    // REVIEW_2 and REVIEW_3 are created at the same time, so their order is decided by their IDs
+    private static List<PullRequestReview> getReviewsCreatedInOrder() {
+        OffsetDateTime createdAt = OffsetDateTime.of(2024, 5, 13, 6, 0, 0, 0, ZoneOffset.UTC);
+        return List.of(REVIEW_1.withCreatedAt(createdAt), REVIEW_2.withCreatedAt(createdAt.plusHours(1)),
+                REVIEW_3.withCreatedAt(createdAt.plusHours(1)), REVIEW_4.withCreatedAt(createdAt.plusHours(2)));
+    }
+
+    private static PullRequestReviewScore toScore(PullRequestReview review) {
+        return new PullRequestReviewScore(review.getId(), review.getDeveloper()
+                .getLogin(), review.getScore(), review.getPullRequestFileDetails());
+    }
+
 }
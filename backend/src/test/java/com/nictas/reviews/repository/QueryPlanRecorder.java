@@ -0,0 +1,137 @@
+package com.nictas.reviews.repository;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+class QueryPlanRecorder implements BeanPostProcessor {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<QueryPlan> queryPlans = new CopyOnWriteArrayList<>();
+    private volatile boolean recording;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return proxy(DataSource.class, (proxy, method, args) -> {
+                Object result = invoke(dataSource, method, args);
+                if (result instanceof Connection connection) {
+                    return proxyConnection(connection);
+                }
+                return result;
+            });
+        }
+        return bean;
+    }
+
+    public List<QueryPlan> record(Runnable action) {
+        queryPlans.clear();
+        recording = true;
+        try {
+            action.run();
+        } finally {
+            recording = false;
+        }
+        return List.copyOf(queryPlans);
+    }
+
+    private Connection proxyConnection(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof PreparedStatement statement && method.getName()
+                    .equals("prepareStatement")) {
+                return proxyStatement(connection, statement, (String) args[0]);
+            }
+            return result;
+        });
+    }
+
+    private PreparedStatement proxyStatement(Connection connection, PreparedStatement statement, String sql) {
+        List<ParameterBinding> bindings = new ArrayList<>();
+        return proxy(PreparedStatement.class, (proxy, method, args) -> {
+            if (isParameterBinding(method, args)) {
+                bindings.add(new ParameterBinding(method, args));
+            } else if (method.getName()
+                    .equals("clearParameters")) {
+                bindings.clear();
+            } else if (recording && EXECUTE_METHODS.contains(method.getName()) && args == null) {
+                queryPlans.add(new QueryPlan(sql, explain(connection, sql, bindings)));
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    private JsonNode explain(Connection connection, String sql, List<ParameterBinding> bindings)
+            throws SQLException, ReflectiveOperationException, JsonProcessingException {
+        try (PreparedStatement explainStatement = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + sql)) {
+            for (ParameterBinding binding : bindings) {
+                binding.getMethod()
+                        .invoke(explainStatement, binding.getArgs());
+            }
+            try (ResultSet resultSet = explainStatement.executeQuery()) {
+                resultSet.next();
+                return objectMapper.readTree(resultSet.getString(1));
+            }
+        }
+    }
+
+    private static boolean isParameterBinding(Method method, Object[] args) {
+        return method.getName()
+                .startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    @Data
+    @RequiredArgsConstructor
+    private static class ParameterBinding {
+
+        private final Method method;
+        private final Object[] args;
+
+    }
+
+    @Data
+    @RequiredArgsConstructor
+    static class QueryPlan {
+
+        private final String sql;
+        private final JsonNode plan;
+
+    }
+
+}
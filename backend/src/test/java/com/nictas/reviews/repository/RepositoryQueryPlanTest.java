@@ -0,0 +1,235 @@
+package com.nictas.reviews.repository;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.nictas.reviews.FairReviewsPostgreSQLContainer;
+import com.nictas.reviews.repository.QueryPlanRecorder.QueryPlan;
+
+@Testcontainers
+@DataJpaTest
+@ContextConfiguration(initializers = {RepositoryQueryPlanTest.Initializer.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryPlanRecorder.class)
+class RepositoryQueryPlanTest {
+
+    @Container
+    public static final FairReviewsPostgreSQLContainer POSTGRESQL_CONTAINER = FairReviewsPostgreSQLContainer
+            .getInstance();
+
+    static class Initializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+        public void initialize(ConfigurableApplicationContext configurableApplicationContext) {
+            TestPropertyValues
+                    .of("spring.datasource.url=" + POSTGRESQL_CONTAINER.getJdbcUrl(),
+                            "spring.datasource.username=" + POSTGRESQL_CONTAINER.getUsername(),
+                            "spring.datasource.password=" + POSTGRESQL_CONTAINER.getPassword())
+                    .applyTo(configurableApplicationContext.getEnvironment());
+        }
+
+    }
+
+    private static final int SEQUENTIAL_SCAN_THRESHOLD = 1000;
+    private static final int DEVELOPERS = 2000;
+    private static final int MULTIPLIERS = 50;
+    private static final int REVIEWS = 50000;
+    private static final int PULL_REQUESTS = 10000;
+
+    private static final String DEVELOPER_LOGIN = "developer-1";
+    private static final String PULL_REQUEST_URL = "https://github.com/foo/bar/pull/1";
+
+    @Autowired
+    private QueryPlanRecorder queryPlanRecorder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PullRequestReviewRepository pullRequestReviewRepository;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    private UUID latestMultiplierId;
+    private UUID previousMultiplierId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute(String.format("""
+                INSERT INTO developer (login, email, score)
+                SELECT 'developer-' || i, 'developer-' || i || '@example.com', random() * 1000
+                FROM generate_series(1, %d) AS i""", DEVELOPERS));
+        jdbcTemplate.execute(String.format("""
+                INSERT INTO multiplier (id, default_additions_multiplier, default_deletions_multiplier, created_at,
+                                        file_multipliers)
+                SELECT gen_random_uuid(), 1.0, 0.2, CURRENT_TIMESTAMP - i * INTERVAL '1 day', '[]'
+                FROM generate_series(1, %d) AS i""", MULTIPLIERS));
+        List<UUID> multiplierIds = jdbcTemplate.queryForList("SELECT id FROM multiplier ORDER BY created_at DESC",
+                UUID.class);
+        latestMultiplierId = multiplierIds.get(0);
+        previousMultiplierId = multiplierIds.get(1);
+        jdbcTemplate.execute(String.format("""
+                INSERT INTO pull_request_review (id, developer_login, score, multiplier_id, pull_request_url,
+                                                 pull_request_file_details, created_at)
+                SELECT gen_random_uuid(), 'developer-' || (i %% %1$d + 1), random() * 100,
+                       m.ids[CASE WHEN i %% 20 = 0 THEN 2 + i %% (%2$d - 1) ELSE 1 END],
+                       'https://github.com/foo/bar/pull/' || (i %% %3$d),
+                       '{"additions": 10, "deletions": 2, "changedFiles": [
+                           {"name": "src/Foo.java", "additions": 10, "deletions": 2}]}',
+                       CURRENT_TIMESTAMP
+                FROM generate_series(1, %4$d) AS i,
+                     (SELECT array_agg(id ORDER BY created_at DESC) AS ids FROM multiplier) AS m""", DEVELOPERS,
+                MULTIPLIERS, PULL_REQUESTS, REVIEWS));
+        jdbcTemplate.execute("ANALYZE developer, multiplier, pull_request_review");
+    }
+
+    @Test
+    void testFindByPullRequestUrl() {
+        assertNoSequentialScans(
+                () -> pullRequestReviewRepository.findByPullRequestUrl(PULL_REQUEST_URL, PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void testFindByDeveloperLogin() {
+        assertNoSequentialScans(
+                () -> pullRequestReviewRepository.findByDeveloperLogin(DEVELOPER_LOGIN, PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void testFindByMultiplierId() {
+        assertNoSequentialScans(
+                () -> pullRequestReviewRepository.findByMultiplierId(previousMultiplierId, PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void testFindNewest() {
+        assertNoSequentialScans(() -> pullRequestReviewRepository.findNewest(Limit.of(21)));
+    }
+
+    @Test
+    void testFindNewestBefore() {
+        OffsetDateTime createdAt = OffsetDateTime.now();
+        assertNoSequentialScans(
+                () -> pullRequestReviewRepository.findNewestBefore(createdAt, new UUID(0, 0), Limit.of(21)));
+    }
+
+    @Test
+    void testFindNewestByDeveloperLogin() {
+        assertNoSequentialScans(
+                () -> pullRequestReviewRepository.findNewestByDeveloperLogin(DEVELOPER_LOGIN, Limit.of(21)));
+    }
+
+    @Test
+    void testFindNewestByDeveloperLoginBefore() {
+        OffsetDateTime createdAt = OffsetDateTime.now();
+        assertNoSequentialScans(() -> pullRequestReviewRepository.findNewestByDeveloperLoginBefore(DEVELOPER_LOGIN,
+                createdAt, new UUID(0, 0), Limit.of(21)));
+    }
+
+    @Test
+    void testFindWithDifferentMultiplierIds() {
+        assertNoSequentialScans(() -> pullRequestReviewRepository.findWithDifferentMultiplierIds(latestMultiplierId,
+                PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void testFindWithDifferentMultiplierIdsAfter() {
+        assertNoSequentialScans(() -> pullRequestReviewRepository
+                .findWithDifferentMultiplierIdsAfter(latestMultiplierId, new UUID(0, 0), Limit.of(500)));
+    }
+
+    @Test
+    void testCountWithDifferentMultiplierIds() {
+        assertNoSequentialScans(() -> pullRequestReviewRepository.countWithDifferentMultiplierIds(latestMultiplierId));
+    }
+
+    @Test
+    void testFindDifferentMultipliers() {
+        assertNoSequentialScans(() -> pullRequestReviewRepository.findDifferentMultipliers(latestMultiplierId));
+    }
+
+    @Test
+    void testFindScoresInIdRange() {
+        assertNoSequentialScans(() -> pullRequestReviewRepository.findScoresInIdRange(new UUID(0, 0),
+                UUID.fromString("3fffffff-ffff-ffff-ffff-ffffffffffff"), Limit.of(1000)));
+    }
+
+    @Test
+    void testUpdateMultiplierIds() {
+        assertNoSequentialScans(
+                () -> pullRequestReviewRepository.updateMultiplierIds(previousMultiplierId, latestMultiplierId));
+    }
+
+    @Test
+    void testUpdateMultiplierIdsWithoutFileExtensions() {
+        assertNoSequentialScans(() -> pullRequestReviewRepository
+                .updateMultiplierIdsWithoutFileExtensions(previousMultiplierId, latestMultiplierId,
+                        new String[] {".java"}));
+    }
+
+    @Test
+    void testCopyReviews() {
+        assertNoSequentialScans(
+                () -> pullRequestReviewRepository.copyReviews(DEVELOPER_LOGIN, Set.of("developer-2", "developer-3")));
+    }
+
+    @Test
+    void testFindWithLowestScore() {
+        assertNoSequentialScans(() -> developerRepository.findWithLowestScore(List.of(DEVELOPER_LOGIN)));
+    }
+
+    @Test
+    void testAddToScore() {
+        assertNoSequentialScans(() -> developerRepository.addToScore(DEVELOPER_LOGIN, 1.5));
+    }
+
+    private void assertNoSequentialScans(Runnable query) {
+        List<QueryPlan> queryPlans = queryPlanRecorder.record(query);
+        assertFalse(queryPlans.isEmpty(), "No statements were executed");
+        for (QueryPlan queryPlan : queryPlans) {
+            for (JsonNode node : queryPlan.getPlan()
+                    .findParents("Node Type")) {
+                if (isSequentialScanAboveThreshold(node)) {
+                    fail(String.format("Sequential scan on %s in plan of query:%n%s%n%s", node.get("Relation Name")
+                            .asText(), queryPlan.getSql(), queryPlan.getPlan()
+                                    .toPrettyString()));
+                }
+            }
+        }
+    }
+
+    private boolean isSequentialScanAboveThreshold(JsonNode node) {
+        if (!node.get("Node Type")
+                .asText()
+                .equals("Seq Scan")) {
+            return false;
+        }
+        Double rows = jdbcTemplate.queryForObject("SELECT reltuples FROM pg_class WHERE relname = ?", Double.class,
+                node.get("Relation Name")
+                        .asText());
+        return rows != null && rows > SEQUENTIAL_SCAN_THRESHOLD;
+    }
+
+}
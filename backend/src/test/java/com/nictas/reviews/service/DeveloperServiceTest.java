@@ -75,6 +75,37 @@ class DeveloperServiceTest {
         verify(developerRepository).save(DEVELOPER_FOO);
     }
 
+    @Test
+    void testAddToScore() {
+        when(developerRepository.addToScore(DEVELOPER_FOO.getLogin(), 100.)).thenReturn(1);
+
+        assertDoesNotThrow(() -> developerService.addToScore(DEVELOPER_FOO.getLogin(), 100.));
+
+        verify(developerRepository).addToScore(DEVELOPER_FOO.getLogin(), 100.);
+    }
+
+    @Test
+    void testAddToScoreAndGet() {
+        when(developerRepository.addToScore(DEVELOPER_FOO.getLogin(), 100.)).thenReturn(1);
+        when(developerRepository.findById(DEVELOPER_FOO.getLogin()))
+                .thenReturn(Optional.of(DEVELOPER_FOO.withScore(DEVELOPER_FOO.getScore() + 100.)));
+
+        Developer developer = developerService.addToScoreAndGet(DEVELOPER_FOO.getLogin(), 100.);
+
+        assertEquals(DEVELOPER_FOO.withScore(DEVELOPER_FOO.getScore() + 100.), developer);
+    }
+
+    @Test
+    void testAddToScoreNotFound() {
+        String login = DEVELOPER_FOO.getLogin();
+        when(developerRepository.addToScore(login, 100.)).thenReturn(0);
+
+        NotFoundException exception = assertThrows(NotFoundException.class,
+                () -> developerService.addToScore(login, 100.));
+
+        assertEquals("Could not find developer with login: " + login, exception.getMessage());
+    }
+
     @Test
     void testGetDeveloperWithLowestScore() {
         List<String> loginExclusionList = Collections.emptyList();
@@ -0,0 +1,172 @@
+package com.nictas.reviews.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.nictas.reviews.domain.MultiplierApplicationJob;
+import com.nictas.reviews.domain.MultiplierApplicationJob.Status;
+import com.nictas.reviews.error.ConflictException;
+import com.nictas.reviews.error.NotFoundException;
+import com.nictas.reviews.repository.MultiplierApplicationJobRepository;
+
+@ExtendWith(MockitoExtension.class)
+class MultiplierApplicationJobServiceTest {
+
+    private static final MultiplierApplicationJob JOB = MultiplierApplicationJob.builder()
+            .id(UUID.fromString("5c3b3a52-3f0c-4f1e-9d8e-0b7f6a0c2d11"))
+            .multiplier(MultiplierService.DEFAULT_MULTIPLIER)
+            .totalReviews(3)
+            .build();
+
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(5);
+
+    @Mock
+    private MultiplierApplicationJobRepository repository;
+
+    private MultiplierApplicationJobService multiplierApplicationJobService;
+
+    @BeforeEach
+    void setUp() {
+        multiplierApplicationJobService = new MultiplierApplicationJobService(repository, LEASE_DURATION);
+    }
+
+    @Test
+    void testGetJob() {
+        when(repository.findById(JOB.getId())).thenReturn(Optional.of(JOB));
+
+        MultiplierApplicationJob job = multiplierApplicationJobService.getJob(JOB.getId());
+
+        assertSame(JOB, job);
+    }
+
+    @Test
+    void testGetJobNotFound() {
+        UUID id = JOB.getId();
+        when(repository.findById(id)).thenReturn(Optional.empty());
+
+        Exception exception = assertThrows(NotFoundException.class, () -> multiplierApplicationJobService.getJob(id));
+
+        assertEquals("Could not find multiplier application job with ID: 5c3b3a52-3f0c-4f1e-9d8e-0b7f6a0c2d11",
+                exception.getMessage());
+    }
+
+    @Test
+    void testGetRunningJobs() {
+        when(repository.findByStatusOrderByStartedAt(Status.RUNNING)).thenReturn(List.of(JOB));
+
+        List<MultiplierApplicationJob> jobs = multiplierApplicationJobService.getRunningJobs();
+
+        assertEquals(List.of(JOB), jobs);
+    }
+
+    @Test
+    void testClaimAbandonedJobs() {
+        MultiplierApplicationJob otherJob = JOB.withId(UUID.fromString("0b7c61f0-6d5e-4ab2-8a3c-5f0e7f3b8c21"));
+        MultiplierApplicationJob claimedJob = JOB.withProcessedReviews(2);
+        when(repository.findByStatusOrderByStartedAt(Status.RUNNING)).thenReturn(List.of(JOB, otherJob));
+        when(repository.claimExpiredLease(eq(JOB.getId()), eq(Status.RUNNING), any(), any(), any())).thenReturn(1);
+        when(repository.claimExpiredLease(eq(otherJob.getId()), eq(Status.RUNNING), any(), any(), any()))
+                .thenReturn(0);
+        when(repository.findById(JOB.getId())).thenReturn(Optional.of(claimedJob));
+
+        List<MultiplierApplicationJob> jobs = multiplierApplicationJobService.claimAbandonedJobs();
+
+        assertEquals(List.of(claimedJob), jobs);
+        ArgumentCaptor<OffsetDateTime> leaseExpirationCaptor = ArgumentCaptor.forClass(OffsetDateTime.class);
+        ArgumentCaptor<OffsetDateTime> nowCaptor = ArgumentCaptor.forClass(OffsetDateTime.class);
+        verify(repository).claimExpiredLease(eq(JOB.getId()), eq(Status.RUNNING), any(),
+                leaseExpirationCaptor.capture(), nowCaptor.capture());
+        assertEquals(LEASE_DURATION, Duration.between(nowCaptor.getValue(), leaseExpirationCaptor.getValue()));
+    }
+
+    @Test
+    void testSaveJob() {
+        when(repository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        MultiplierApplicationJob job = multiplierApplicationJobService.saveJob(JOB);
+
+        assertNotNull(job.getOwner());
+        assertEquals(JOB.withOwner(job.getOwner()), job);
+        assertTrue(job.getLeaseExpiresAt()
+                .isAfter(OffsetDateTime.now()));
+    }
+
+    @Test
+    void testSaveJobWhileAnotherJobIsRunning() {
+        MultiplierApplicationJob runningJob = JOB.withId(UUID.fromString("0b7c61f0-6d5e-4ab2-8a3c-5f0e7f3b8c21"));
+        when(repository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(repository.findByStatusOrderByStartedAt(Status.RUNNING)).thenReturn(List.of(runningJob));
+
+        MultiplierApplicationJob job = multiplierApplicationJobService.saveJob(JOB);
+
+        assertSame(runningJob, job);
+    }
+
+    @Test
+    void testSaveJobWithOtherIntegrityViolation() {
+        DataIntegrityViolationException exception = new DataIntegrityViolationException("foreign key");
+        when(repository.saveAndFlush(any())).thenThrow(exception);
+        when(repository.findByStatusOrderByStartedAt(Status.RUNNING)).thenReturn(List.of());
+
+        assertSame(exception, assertThrows(DataIntegrityViolationException.class,
+                () -> multiplierApplicationJobService.saveJob(JOB)));
+    }
+
+    @Test
+    void testSupersedeJob() {
+        multiplierApplicationJobService.supersedeJob(JOB);
+
+        verify(repository).updateStatus(eq(JOB.getId()), eq(Status.RUNNING), eq(Status.SUPERSEDED), any());
+    }
+
+    @Test
+    void testUpdateJob() {
+        when(repository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        MultiplierApplicationJob savedJob = multiplierApplicationJobService.saveJob(JOB);
+        MultiplierApplicationJob updatedJob = savedJob.withProcessedReviews(2);
+        when(repository.renewLease(eq(JOB.getId()), eq(Status.RUNNING), eq(savedJob.getOwner()), any()))
+                .thenReturn(1);
+
+        MultiplierApplicationJob job = multiplierApplicationJobService.updateJob(updatedJob);
+
+        assertEquals(updatedJob, job);
+        assertEquals(savedJob.getOwner(), job.getOwner());
+    }
+
+    @Test
+    void testUpdateJobOwnedByAnotherInstance() {
+        UUID id = JOB.getId();
+        when(repository.renewLease(eq(id), eq(Status.RUNNING), any(), any())).thenReturn(0);
+
+        Exception exception = assertThrows(ConflictException.class,
+                () -> multiplierApplicationJobService.updateJob(JOB));
+
+        assertEquals("Multiplier application job 5c3b3a52-3f0c-4f1e-9d8e-0b7f6a0c2d11 is no longer running or owned by "
+                + "another instance", exception.getMessage());
+        verify(repository, never()).save(any());
+    }
+
+}
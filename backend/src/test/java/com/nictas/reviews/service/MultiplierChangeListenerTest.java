@@ -0,0 +1,94 @@
+package com.nictas.reviews.service;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+@ExtendWith(MockitoExtension.class)
+class MultiplierChangeListenerTest {
+
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private MultiplierService multiplierService;
+    @Mock
+    private Connection connection;
+    @Mock
+    private Statement statement;
+    @Mock
+    private PGConnection pgConnection;
+    @Mock
+    private PGNotification notification;
+
+    private MultiplierChangeListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new MultiplierChangeListener(dataSource, multiplierService, Duration.ofSeconds(1),
+                Duration.ofSeconds(1));
+    }
+
+    @Test
+    void testStart() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(connection.isValid(1)).thenReturn(true);
+        when(pgConnection.getNotifications(1000)).thenReturn(new PGNotification[] {notification})
+                .thenAnswer(invocation -> {
+                    listener.stop();
+                    return new PGNotification[0];
+                });
+
+        listener.start();
+
+        verify(connection, timeout(5000)).close();
+        InOrder inOrder = inOrder(statement, multiplierService);
+        inOrder.verify(statement)
+                .execute("LISTEN multiplier_changed");
+        inOrder.verify(multiplierService, times(2))
+                .evictLatestMultiplier();
+    }
+
+    @Test
+    void testStartReconnectsWithInvalidConnection() throws SQLException {
+        Connection otherConnection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection, otherConnection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(connection.isValid(1)).thenReturn(false);
+        when(otherConnection.createStatement()).thenReturn(statement);
+        when(otherConnection.unwrap(PGConnection.class)).thenAnswer(invocation -> {
+            listener.stop();
+            throw new SQLException("Listener stopped");
+        });
+        when(pgConnection.getNotifications(1000)).thenReturn(new PGNotification[0]);
+        listener = new MultiplierChangeListener(dataSource, multiplierService, Duration.ofSeconds(1), Duration.ZERO);
+
+        listener.start();
+
+        verify(otherConnection, timeout(5000)).close();
+        verify(connection).close();
+        verify(multiplierService, timeout(5000).times(4)).evictLatestMultiplier();
+    }
+
+}
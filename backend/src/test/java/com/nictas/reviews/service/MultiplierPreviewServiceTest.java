@@ -0,0 +1,195 @@
+package com.nictas.reviews.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import com.nictas.reviews.controller.rest.dto.MultiplierPreview;
+import com.nictas.reviews.controller.rest.dto.MultiplierPreview.DeveloperScoreChange;
+import com.nictas.reviews.controller.rest.dto.MultiplierPreview.ScoreChangeDistribution;
+import com.nictas.reviews.domain.Developer;
+import com.nictas.reviews.domain.FileMultiplier;
+import com.nictas.reviews.domain.Multiplier;
+import com.nictas.reviews.domain.MultiplierApplicationJob;
+import com.nictas.reviews.domain.PullRequestFileDetails;
+import com.nictas.reviews.domain.PullRequestFileDetails.ChangedFile;
+import com.nictas.reviews.domain.PullRequestReviewScore;
+import com.nictas.reviews.service.score.FileMultiplierMatcher;
+import com.nictas.reviews.service.score.PullRequestScoreComputer;
+
+@ExtendWith(MockitoExtension.class)
+class MultiplierPreviewServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    private static final Developer DEVELOPER_FOO = new Developer("foo", "foo@example.com", 10.0);
+    private static final Developer DEVELOPER_BAR = new Developer("bar", "bar@example.com", 12.0);
+    private static final Developer DEVELOPER_BAZ = new Developer("baz", "baz@example.com", 11.0);
+
+    private static final Multiplier MULTIPLIER = Multiplier.builder()
+            .id(UUID.fromString("98626460-80e1-4acc-b2ea-b28e018ca6d2"))
+            .defaultAdditionsMultiplier(1.0)
+            .defaultDeletionsMultiplier(0.2)
+            .fileMultipliers(List.of(FileMultiplier.builder()
+                    .fileExtension(".java")
+                    .additionsMultiplier(3.0)
+                    .deletionsMultiplier(0.2)
+                    .build()))
+            .build();
+
+    private static final PullRequestFileDetails FILE_DETAILS_1 = fileDetails("Foo.java");
+    private static final PullRequestFileDetails FILE_DETAILS_2 = fileDetails("bar.yaml");
+    private static final PullRequestFileDetails FILE_DETAILS_3 = fileDetails("README.md");
+
+    private static final PullRequestReviewScore REVIEW_1 = new PullRequestReviewScore(
+            UUID.fromString("1a0bb09a-2f3c-4f2e-8a59-5f1c9e7e0b11"), DEVELOPER_FOO.getLogin(), 4.0, FILE_DETAILS_1);
+
+    private static final PullRequestReviewScore REVIEW_2 = new PullRequestReviewScore(
+            UUID.fromString("2c63e6d4-8f0e-44a8-b3a3-4a3b0f1f2c22"), DEVELOPER_BAR.getLogin(), 6.0, FILE_DETAILS_2);
+
+    private static final PullRequestReviewScore REVIEW_3 = new PullRequestReviewScore(
+            UUID.fromString("9d5e3b1f-6a7c-4d2e-9f0a-1b2c3d4e5f33"), DEVELOPER_FOO.getLogin(), 2.0, FILE_DETAILS_3);
+
+    private static final UUID LAST_REVIEW_ID = UUID.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff");
+
+    @Mock
+    private PullRequestReviewService pullRequestReviewService;
+    @Mock
+    private DeveloperService developerService;
+    @Mock
+    private MultiplierService multiplierService;
+    @Mock
+    private PullRequestScoreComputer pullRequestScoreComputer;
+
+    private MultiplierPreviewService multiplierPreviewService;
+
+    @BeforeEach
+    void setUp() {
+        multiplierPreviewService = new MultiplierPreviewService(pullRequestReviewService, developerService,
+                multiplierService, pullRequestScoreComputer, CHUNK_SIZE);
+    }
+
+    @Test
+    void testPreviewMultiplier() {
+        when(pullRequestReviewService.getReviewScores(MultiplierApplicationJob.FIRST_REVIEW_ID, LAST_REVIEW_ID,
+                CHUNK_SIZE)).thenReturn(List.of(REVIEW_1, REVIEW_2));
+        when(pullRequestReviewService.getReviewScores(REVIEW_2.getId(), LAST_REVIEW_ID, CHUNK_SIZE))
+                .thenReturn(List.of(REVIEW_3));
+        when(pullRequestScoreComputer.computeScore(eq(FILE_DETAILS_1), eq(MULTIPLIER), any())).thenReturn(7.0);
+        when(pullRequestScoreComputer.computeScore(eq(FILE_DETAILS_2), eq(MULTIPLIER), any())).thenReturn(3.0);
+        when(pullRequestScoreComputer.computeScore(eq(FILE_DETAILS_3), eq(MULTIPLIER), any())).thenReturn(2.0);
+        stubDevelopers();
+
+        MultiplierPreview preview = multiplierPreviewService.previewMultiplier(MULTIPLIER, 100);
+
+        assertEquals(100, preview.getSamplePercentage());
+        assertEquals(3, preview.getScannedReviews());
+        assertEquals(2, preview.getChangedReviews());
+        assertEquals(ScoreChangeDistribution.builder()
+                .minimum(-3.0)
+                .median(0.0)
+                .mean(0.0)
+                .percentile90(3.0)
+                .percentile99(3.0)
+                .maximum(3.0)
+                .build(), preview.getScoreChanges());
+        assertEquals(List.of(scoreChange("bar", 12.0, 9.0, 3, 1), scoreChange("baz", 11.0, 11.0, 2, 2),
+                scoreChange("foo", 10.0, 13.0, 1, 3)), preview.getDevelopers());
+        ArgumentCaptor<FileMultiplierMatcher> matcherCaptor = ArgumentCaptor.forClass(FileMultiplierMatcher.class);
+        verify(pullRequestScoreComputer, times(3)).computeScore(any(), eq(MULTIPLIER), matcherCaptor.capture());
+        assertEquals(1, matcherCaptor.getAllValues()
+                .stream()
+                .distinct()
+                .count());
+    }
+
+    @Test
+    void testPreviewMultiplierOnSample() {
+        UUID lastSampledReviewId = UUID.fromString("3fffffff-ffff-ffff-ffff-ffffffffffff");
+        when(pullRequestReviewService.getReviewScores(MultiplierApplicationJob.FIRST_REVIEW_ID, lastSampledReviewId,
+                CHUNK_SIZE)).thenReturn(List.of(REVIEW_1));
+        when(pullRequestScoreComputer.computeScore(eq(FILE_DETAILS_1), eq(MULTIPLIER), any())).thenReturn(7.0);
+        stubDevelopers();
+
+        MultiplierPreview preview = multiplierPreviewService.previewMultiplier(MULTIPLIER, 25);
+
+        assertEquals(1, preview.getScannedReviews());
+        assertEquals(List.of(scoreChange("baz", 11.0, 11.0, 2, 1), scoreChange("bar", 12.0, 12.0, 3, 2),
+                scoreChange("foo", 10.0, 22.0, 1, 3)), preview.getDevelopers());
+    }
+
+    @Test
+    void testPreviewMultiplierWithoutReviews() {
+        when(pullRequestReviewService.getReviewScores(MultiplierApplicationJob.FIRST_REVIEW_ID, LAST_REVIEW_ID,
+                CHUNK_SIZE)).thenReturn(List.of());
+        when(developerService.getAllDevelopers(Pageable.unpaged())).thenReturn(new PageImpl<>(List.of()));
+
+        MultiplierPreview preview = multiplierPreviewService.previewMultiplier(MULTIPLIER, 100);
+
+        assertEquals(0, preview.getScannedReviews());
+        assertEquals(ScoreChangeDistribution.builder()
+                .build(), preview.getScoreChanges());
+        assertEquals(List.of(), preview.getDevelopers());
+    }
+
+    @Test
+    void testPreviewMultiplierWithInvalidSamplePercentage() {
+        assertThrows(IllegalArgumentException.class, () -> multiplierPreviewService.previewMultiplier(MULTIPLIER, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> multiplierPreviewService.previewMultiplier(MULTIPLIER, 100.5));
+        assertThrows(IllegalArgumentException.class,
+                () -> multiplierPreviewService.previewMultiplier(MULTIPLIER, Double.NaN));
+    }
+
+    @Test
+    void testPreviewMultiplierWithInvalidFileMultiplier() {
+        doThrow(new IllegalArgumentException("File multiplier has an empty path pattern")).when(multiplierService)
+                .verifyMultiplier(MULTIPLIER);
+
+        assertThrows(IllegalArgumentException.class, () -> multiplierPreviewService.previewMultiplier(MULTIPLIER, 100));
+
+        verify(pullRequestReviewService, never()).getReviewScores(any(), any(), any(Integer.class));
+    }
+
+    private void stubDevelopers() {
+        when(developerService.getAllDevelopers(Pageable.unpaged()))
+                .thenReturn(new PageImpl<>(List.of(DEVELOPER_FOO, DEVELOPER_BAR, DEVELOPER_BAZ)));
+    }
+
+    private static DeveloperScoreChange scoreChange(String login, double currentScore, double previewScore,
+                                                    int currentRank, int previewRank) {
+        return DeveloperScoreChange.builder()
+                .login(login)
+                .currentScore(currentScore)
+                .previewScore(previewScore)
+                .currentRank(currentRank)
+                .previewRank(previewRank)
+                .build();
+    }
+
+    private static PullRequestFileDetails fileDetails(String fileName) {
+        return new PullRequestFileDetails(10, 0, List.of(ChangedFile.builder()
+                .name(fileName)
+                .additions(10)
+                .build()));
+    }
+
+}
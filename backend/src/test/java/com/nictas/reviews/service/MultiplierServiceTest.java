@@ -4,6 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -22,6 +25,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import com.nictas.reviews.domain.Developer;
 import com.nictas.reviews.domain.FileMultiplier;
@@ -117,6 +121,8 @@ class MultiplierServiceTest {
     private MultiplierRepository multiplierRepository;
     @Mock
     private PullRequestReviewRepository pullRequestReviewRepository;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
 
     @InjectMocks
     private MultiplierService multiplierService;
@@ -159,6 +165,51 @@ class MultiplierServiceTest {
 
         assertEquals(MULTIPLIER_1, multiplier);
         verify(multiplierRepository).save(MULTIPLIER_1);
+        verify(jdbcTemplate).execute("NOTIFY multiplier_changed");
+    }
+
+    @Test
+    void testCreateMultiplierWithPathPattern() {
+        Multiplier multiplierWithPathPattern = MULTIPLIER_1.withFileMultipliers(List.of(FileMultiplier.builder()
+                .pathPattern("*.lock")
+                .additionsMultiplier(0.)
+                .deletionsMultiplier(0.)
+                .build()));
+        when(multiplierRepository.save(multiplierWithPathPattern)).thenReturn(multiplierWithPathPattern);
+
+        Multiplier multiplier = multiplierService.saveMultiplier(multiplierWithPathPattern);
+
+        assertEquals(multiplierWithPathPattern, multiplier);
+    }
+
+    @Test
+    void testCreateMultiplierWithExtensionAndPathPattern() {
+        FileMultiplier fileMultiplier = FileMultiplier.builder()
+                .fileExtension(".lock")
+                .pathPattern("*.lock")
+                .build();
+        Multiplier invalidMultiplier = MULTIPLIER_1.withFileMultipliers(List.of(fileMultiplier));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> multiplierService.saveMultiplier(invalidMultiplier));
+
+        assertEquals(String.format("File multiplier %s must specify exactly one of file extension and path pattern",
+                fileMultiplier.getId()), exception.getMessage());
+        verify(multiplierRepository, never()).save(any());
+    }
+
+    @Test
+    void testCreateMultiplierWithEmptyPathPattern() {
+        FileMultiplier fileMultiplier = FileMultiplier.builder()
+                .pathPattern("/")
+                .build();
+        Multiplier invalidMultiplier = MULTIPLIER_1.withFileMultipliers(List.of(fileMultiplier));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> multiplierService.saveMultiplier(invalidMultiplier));
+
+        assertEquals(String.format("File multiplier %s has an empty path pattern", fileMultiplier.getId()),
+                exception.getMessage());
     }
 
     @Test
@@ -167,7 +218,42 @@ class MultiplierServiceTest {
 
         Multiplier multiplier = multiplierService.getLatestMultiplier();
 
-        assertSame(MULTIPLIER_1, multiplier);
+        assertEquals(MULTIPLIER_1, multiplier);
+    }
+
+    @Test
+    void testGetLatestMultiplierCaching() {
+        when(multiplierRepository.findLatest()).thenReturn(Optional.of(MULTIPLIER_1));
+
+        Multiplier multiplier = multiplierService.getLatestMultiplier();
+
+        assertSame(multiplier, multiplierService.getLatestMultiplier());
+        assertThrows(UnsupportedOperationException.class, () -> multiplier.getFileMultipliers()
+                .clear());
+        verify(multiplierRepository, times(1)).findLatest();
+    }
+
+    @Test
+    void testGetLatestMultiplierAfterSave() {
+        when(multiplierRepository.findLatest()).thenReturn(Optional.of(MULTIPLIER_1))
+                .thenReturn(Optional.of(MULTIPLIER_2));
+        when(multiplierRepository.save(MULTIPLIER_2)).thenReturn(MULTIPLIER_2);
+
+        multiplierService.getLatestMultiplier();
+        multiplierService.saveMultiplier(MULTIPLIER_2);
+
+        assertEquals(MULTIPLIER_2, multiplierService.getLatestMultiplier());
+    }
+
+    @Test
+    void testEvictLatestMultiplier() {
+        when(multiplierRepository.findLatest()).thenReturn(Optional.of(MULTIPLIER_1))
+                .thenReturn(Optional.of(MULTIPLIER_2));
+
+        multiplierService.getLatestMultiplier();
+        multiplierService.evictLatestMultiplier();
+
+        assertEquals(MULTIPLIER_2, multiplierService.getLatestMultiplier());
     }
 
     @Test
@@ -178,7 +264,7 @@ class MultiplierServiceTest {
 
         Multiplier multiplier = multiplierService.getLatestMultiplier();
 
-        assertSame(MultiplierService.DEFAULT_MULTIPLIER, multiplier);
+        assertEquals(MultiplierService.DEFAULT_MULTIPLIER, multiplier);
     }
 
     @Test
@@ -191,6 +277,7 @@ class MultiplierServiceTest {
         assertDoesNotThrow(() -> multiplierService.deleteMultiplier(id));
 
         verify(multiplierRepository).deleteById(id);
+        verify(jdbcTemplate).execute("NOTIFY multiplier_changed");
     }
 
     @Test
@@ -0,0 +1,80 @@
+package com.nictas.reviews.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.nictas.reviews.domain.PullRequestReview;
+
+class PullRequestReviewCursorTest {
+
+    private static final PullRequestReview REVIEW = PullRequestReview.builder()
+            .id(UUID.fromString("91a8bdeb-8457-4905-bd08-9d2a46f27b92"))
+            .createdAt(OffsetDateTime.of(2024, 3, 3, 19, 15, 0, 123456000, ZoneOffset.ofHours(2)))
+            .build();
+
+    @Test
+    void testEncodeAndDecode() {
+        String cursor = PullRequestReviewCursor.of(REVIEW)
+                .encode();
+
+        PullRequestReviewCursor position = PullRequestReviewCursor.decode(cursor);
+
+        assertEquals(REVIEW.getId(), position.getId());
+        assertEquals(REVIEW.getCreatedAt()
+                .toInstant(), position.getCreatedAt()
+                        .toInstant());
+    }
+
+    @Test
+    void testEncode() {
+        String cursor = PullRequestReviewCursor.of(REVIEW)
+                .encode();
+
+        assertEquals("2024-03-03T17:15:00.123456Z/91a8bdeb-8457-4905-bd08-9d2a46f27b92", decodeBase64(cursor));
+    }
+
+    @Test
+    void testDecodeInvalidBase64() {
+        assertThrows(IllegalArgumentException.class, () -> PullRequestReviewCursor.decode("not base64!"));
+    }
+
+    @Test
+    void testDecodeWithoutSeparator() {
+        String cursor = encodeBase64("2024-03-03T17:15:00Z");
+
+        assertThrows(IllegalArgumentException.class, () -> PullRequestReviewCursor.decode(cursor));
+    }
+
+    @Test
+    void testDecodeInvalidTimestamp() {
+        String cursor = encodeBase64("yesterday/91a8bdeb-8457-4905-bd08-9d2a46f27b92");
+
+        assertThrows(IllegalArgumentException.class, () -> PullRequestReviewCursor.decode(cursor));
+    }
+
+    @Test
+    void testDecodeInvalidId() {
+        String cursor = encodeBase64("2024-03-03T17:15:00Z/foo");
+
+        assertThrows(IllegalArgumentException.class, () -> PullRequestReviewCursor.decode(cursor));
+    }
+
+    private static String encodeBase64(String value) {
+        return Base64.getUrlEncoder()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeBase64(String value) {
+        return new String(Base64.getUrlDecoder()
+                .decode(value), StandardCharsets.UTF_8);
+    }
+
+}
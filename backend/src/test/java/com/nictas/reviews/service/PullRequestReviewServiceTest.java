@@ -2,9 +2,13 @@ package com.nictas.reviews.service;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -12,26 +16,40 @@ import static org.mockito.Mockito.when;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.nictas.reviews.controller.rest.dto.CursorSlice;
+import com.nictas.reviews.controller.rest.dto.PullRequestAssignRequest;
+import com.nictas.reviews.controller.rest.dto.PullRequestAssignResult;
 import com.nictas.reviews.domain.Developer;
 import com.nictas.reviews.domain.FileMultiplier;
 import com.nictas.reviews.domain.Multiplier;
 import com.nictas.reviews.domain.PullRequestFileDetails;
 import com.nictas.reviews.domain.PullRequestFileDetails.ChangedFile;
 import com.nictas.reviews.domain.PullRequestReview;
+import com.nictas.reviews.domain.PullRequestReviewScore;
+import com.nictas.reviews.error.ConflictException;
 import com.nictas.reviews.error.NotFoundException;
 import com.nictas.reviews.repository.PullRequestReviewRepository;
 import com.nictas.reviews.service.score.PullRequestScoreComputer;
@@ -194,6 +212,73 @@ class PullRequestReviewServiceTest {
         verify(pullRequestReviewRepository, times(1)).findByDeveloperLogin(DEVELOPER_FOO.getLogin(), pageable);
     }
 
+    @Test
+    void testGetReviewsByCursor() {
+        when(pullRequestReviewRepository.findNewest(Limit.of(3))).thenReturn(List.of(REVIEW_1, REVIEW_2));
+
+        CursorSlice<PullRequestReview> slice = pullRequestReviewService.getReviews(null, 2);
+
+        assertEquals(new CursorSlice<>(List.of(REVIEW_1, REVIEW_2), 2, false, null), slice);
+    }
+
+    @Test
+    void testGetReviewsByCursorWithNextSlice() {
+        when(pullRequestReviewRepository.findNewest(Limit.of(2))).thenReturn(List.of(REVIEW_1, REVIEW_2));
+
+        CursorSlice<PullRequestReview> slice = pullRequestReviewService.getReviews(null, 1);
+
+        String nextCursor = PullRequestReviewCursor.of(REVIEW_1)
+                .encode();
+        assertEquals(new CursorSlice<>(List.of(REVIEW_1), 1, true, nextCursor), slice);
+    }
+
+    @Test
+    void testGetReviewsAfterCursor() {
+        String cursor = PullRequestReviewCursor.of(REVIEW_1)
+                .encode();
+        PullRequestReviewCursor position = PullRequestReviewCursor.decode(cursor);
+        when(pullRequestReviewRepository.findNewestBefore(position.getCreatedAt(), REVIEW_1.getId(), Limit.of(2)))
+                .thenReturn(List.of(REVIEW_2));
+
+        CursorSlice<PullRequestReview> slice = pullRequestReviewService.getReviews(cursor, 1);
+
+        assertEquals(new CursorSlice<>(List.of(REVIEW_2), 1, false, null), slice);
+    }
+
+    @Test
+    void testGetReviewsByCursorWithInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> pullRequestReviewService.getReviews(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> pullRequestReviewService.getReviews(null, 2001));
+        verify(pullRequestReviewRepository, never()).findNewest(any());
+    }
+
+    @Test
+    void testGetReviewsByDeveloperLoginByCursor() {
+        when(pullRequestReviewRepository.findNewestByDeveloperLogin(DEVELOPER_FOO.getLogin(), Limit.of(2)))
+                .thenReturn(List.of(REVIEW_1, REVIEW_2));
+
+        CursorSlice<PullRequestReview> slice = pullRequestReviewService
+                .getReviewsByDeveloperLogin(DEVELOPER_FOO.getLogin(), null, 1);
+
+        String nextCursor = PullRequestReviewCursor.of(REVIEW_1)
+                .encode();
+        assertEquals(new CursorSlice<>(List.of(REVIEW_1), 1, true, nextCursor), slice);
+    }
+
+    @Test
+    void testGetReviewsByDeveloperLoginAfterCursor() {
+        String cursor = PullRequestReviewCursor.of(REVIEW_1)
+                .encode();
+        PullRequestReviewCursor position = PullRequestReviewCursor.decode(cursor);
+        when(pullRequestReviewRepository.findNewestByDeveloperLoginBefore(DEVELOPER_FOO.getLogin(),
+                position.getCreatedAt(), REVIEW_1.getId(), Limit.of(21))).thenReturn(List.of(REVIEW_2));
+
+        CursorSlice<PullRequestReview> slice = pullRequestReviewService
+                .getReviewsByDeveloperLogin(DEVELOPER_FOO.getLogin(), cursor, 20);
+
+        assertEquals(new CursorSlice<>(List.of(REVIEW_2), 20, false, null), slice);
+    }
+
     @Test
     void testGetReviewsWithDifferentMultiplierIds() {
         List<PullRequestReview> reviews = List.of(REVIEW_1, REVIEW_2);
@@ -209,6 +294,82 @@ class PullRequestReviewServiceTest {
         verify(pullRequestReviewRepository, times(1)).findWithDifferentMultiplierIds(MULTIPLIER.getId(), pageable);
     }
 
+    @Test
+    void testGetReviewsWithDifferentMultiplierIdsAfter() {
+        List<PullRequestReview> reviews = List.of(REVIEW_1, REVIEW_2);
+        when(pullRequestReviewRepository.findWithDifferentMultiplierIdsAfter(MULTIPLIER.getId(), REVIEW_1.getId(),
+                Limit.of(10))).thenReturn(reviews);
+
+        List<PullRequestReview> actualReviews = pullRequestReviewService
+                .getReviewsWithDifferentMultiplierIds(MULTIPLIER.getId(), REVIEW_1.getId(), 10);
+
+        assertSame(reviews, actualReviews);
+    }
+
+    @Test
+    void testGetReviewScores() {
+        List<PullRequestReviewScore> reviewScores = List.of(new PullRequestReviewScore(REVIEW_2.getId(),
+                DEVELOPER_FOO.getLogin(), REVIEW_2.getScore(), REVIEW_2.getPullRequestFileDetails()));
+        UUID until = UUID.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff");
+        when(pullRequestReviewRepository.findScoresInIdRange(REVIEW_1.getId(), until, Limit.of(10)))
+                .thenReturn(reviewScores);
+
+        List<PullRequestReviewScore> actualReviewScores = pullRequestReviewService.getReviewScores(REVIEW_1.getId(),
+                until, 10);
+
+        assertSame(reviewScores, actualReviewScores);
+    }
+
+    @Test
+    void testCountReviewsWithDifferentMultiplierIds() {
+        when(pullRequestReviewRepository.countWithDifferentMultiplierIds(MULTIPLIER.getId())).thenReturn(2L);
+
+        long count = pullRequestReviewService.countReviewsWithDifferentMultiplierIds(MULTIPLIER.getId());
+
+        assertEquals(2, count);
+    }
+
+    @Test
+    void testGetDifferentMultipliersOfReviews() {
+        when(pullRequestReviewRepository.findDifferentMultipliers(MULTIPLIER.getId()))
+                .thenReturn(List.of(MultiplierService.DEFAULT_MULTIPLIER));
+
+        List<Multiplier> multipliers = pullRequestReviewService.getDifferentMultipliersOfReviews(MULTIPLIER.getId());
+
+        assertEquals(List.of(MultiplierService.DEFAULT_MULTIPLIER), multipliers);
+    }
+
+    @Test
+    void testUpdateMultiplierIds() {
+        UUID oldId = MultiplierService.DEFAULT_MULTIPLIER.getId();
+        when(pullRequestReviewRepository.updateMultiplierIds(oldId, MULTIPLIER.getId())).thenReturn(2);
+
+        int updatedReviews = pullRequestReviewService.updateMultiplierIds(oldId, MULTIPLIER.getId(), Set.of());
+
+        assertEquals(2, updatedReviews);
+    }
+
+    @Test
+    void testUpdateMultiplierIdsWithExcludedFileExtensions() {
+        UUID oldId = MultiplierService.DEFAULT_MULTIPLIER.getId();
+        when(pullRequestReviewRepository.updateMultiplierIdsWithoutFileExtensions(oldId, MULTIPLIER.getId(),
+                new String[] {".ts"})).thenReturn(1);
+
+        int updatedReviews = pullRequestReviewService.updateMultiplierIds(oldId, MULTIPLIER.getId(), Set.of(".ts"));
+
+        assertEquals(1, updatedReviews);
+        verify(pullRequestReviewRepository, never()).updateMultiplierIds(any(), any());
+    }
+
+    @Test
+    void testUpdateReviews() {
+        List<PullRequestReview> reviews = List.of(REVIEW_1, REVIEW_2);
+
+        pullRequestReviewService.updateReviews(reviews);
+
+        verify(pullRequestReviewRepository).updateAll(reviews);
+    }
+
     @Test
     void testAssign() {
         List<String> loginExclusionList = List.of(DEVELOPER_BAR.getLogin());
@@ -217,6 +378,8 @@ class PullRequestReviewServiceTest {
                 .thenReturn(new PullRequestAssessment(PR_URL, PR_FILE_DETAILS, PR_SCORE, MULTIPLIER));
         when(pullRequestReviewRepository.findByPullRequestUrl(PR_URL, Pageable.unpaged())).thenReturn(Page.empty());
         when(pullRequestReviewRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(developerService.addToScoreAndGet(DEVELOPER_FOO.getLogin(), PR_SCORE))
+                .thenReturn(DEVELOPER_FOO.withScore(PR_SCORE));
 
         List<PullRequestReview> reviews = pullRequestReviewService.assign(PR_URL, Collections.emptyList(),
                 loginExclusionList);
@@ -226,7 +389,6 @@ class PullRequestReviewServiceTest {
 
         Developer expectedAssignee = DEVELOPER_FOO.withScore(PR_SCORE);
         assertEquals(expectedAssignee, review.getDeveloper());
-        verify(developerService).saveDeveloper(expectedAssignee);
         verify(pullRequestReviewRepository).save(review);
     }
 
@@ -238,6 +400,10 @@ class PullRequestReviewServiceTest {
                 .thenReturn(new PullRequestAssessment(PR_URL, PR_FILE_DETAILS, PR_SCORE, MULTIPLIER));
         when(pullRequestReviewRepository.findByPullRequestUrl(PR_URL, Pageable.unpaged())).thenReturn(Page.empty());
         when(pullRequestReviewRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(developerService.addToScoreAndGet(DEVELOPER_FOO.getLogin(), PR_SCORE))
+                .thenReturn(DEVELOPER_FOO.withScore(PR_SCORE));
+        when(developerService.addToScoreAndGet(DEVELOPER_BAR.getLogin(), PR_SCORE))
+                .thenReturn(DEVELOPER_BAR.withScore(PR_SCORE));
 
         List<PullRequestReview> reviews = pullRequestReviewService.assign(PR_URL,
                 List.of(DEVELOPER_FOO.getLogin(), DEVELOPER_BAR.getLogin()), Collections.emptyList());
@@ -249,8 +415,6 @@ class PullRequestReviewServiceTest {
 
         assertEquals(expectedAssigneeFoo, reviewOfFoo.getDeveloper());
         assertEquals(expectedAssigneeBar, reviewOfBar.getDeveloper());
-        verify(developerService).saveDeveloper(expectedAssigneeFoo);
-        verify(developerService).saveDeveloper(expectedAssigneeBar);
         verify(pullRequestReviewRepository).save(reviewOfFoo);
         verify(pullRequestReviewRepository).save(reviewOfBar);
     }
@@ -263,6 +427,10 @@ class PullRequestReviewServiceTest {
                 .thenReturn(new PullRequestAssessment(PR_URL, PR_FILE_DETAILS, PR_SCORE, MULTIPLIER));
         when(pullRequestReviewRepository.findByPullRequestUrl(PR_URL, Pageable.unpaged())).thenReturn(Page.empty());
         when(pullRequestReviewRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(developerService.addToScoreAndGet(DEVELOPER_FOO.getLogin(), PR_SCORE))
+                .thenReturn(DEVELOPER_FOO.withScore(PR_SCORE));
+        when(developerService.addToScoreAndGet(DEVELOPER_BAR.getLogin(), PR_SCORE))
+                .thenReturn(DEVELOPER_BAR.withScore(PR_SCORE));
 
         List<PullRequestReview> reviews = pullRequestReviewService.assign(PR_URL,
                 List.of(DEVELOPER_FOO.getLogin(), DEVELOPER_BAR.getLogin()), Collections.emptyList());
@@ -301,6 +469,8 @@ class PullRequestReviewServiceTest {
         when(pullRequestReviewRepository.findByPullRequestUrl(PR_URL, pageable))
                 .thenReturn(new PageImpl<>(List.of(existingReview), pageable, 1));
         when(pullRequestReviewRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(developerService.addToScoreAndGet(DEVELOPER_BAZ.getLogin(), PR_SCORE))
+                .thenReturn(DEVELOPER_BAZ.withScore(PR_SCORE));
 
         List<PullRequestReview> reviews = pullRequestReviewService.assign(PR_URL, Collections.emptyList(),
                 List.of(DEVELOPER_BAR.getLogin()));
@@ -310,7 +480,95 @@ class PullRequestReviewServiceTest {
 
         Developer expectedAssignee = DEVELOPER_BAZ.withScore(PR_SCORE);
         assertEquals(expectedAssignee, review.getDeveloper());
-        verify(developerService).saveDeveloper(expectedAssignee);
+    }
+
+    @Test
+    void testAssignConcurrentlyWithSameParameters() throws Exception {
+        CountDownLatch scoreComputationStarted = new CountDownLatch(1);
+        CountDownLatch scoreComputationReleased = new CountDownLatch(1);
+        when(developerService.getDeveloperWithLowestScore(Collections.emptyList())).thenReturn(DEVELOPER_FOO);
+        when(pullRequestScoreComputer.computeScore(PR_URL)).thenAnswer(invocation -> {
+            scoreComputationStarted.countDown();
+            scoreComputationReleased.await();
+            return new PullRequestAssessment(PR_URL, PR_FILE_DETAILS, PR_SCORE, MULTIPLIER);
+        });
+        when(pullRequestReviewRepository.findByPullRequestUrl(PR_URL, Pageable.unpaged())).thenReturn(Page.empty());
+        when(pullRequestReviewRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        CompletableFuture<List<PullRequestReview>> leader = CompletableFuture.supplyAsync(
+                () -> pullRequestReviewService.assign(PR_URL, Collections.emptyList(), Collections.emptyList()));
+        assertTrue(scoreComputationStarted.await(10, TimeUnit.SECONDS));
+        CompletableFuture<List<PullRequestReview>> follower = pullRequestReviewService.startAssignment(PR_URL,
+                Collections.emptyList(), Collections.emptyList(), () -> {
+                    throw new AssertionError("Joined assignment computed its own score");
+                });
+        assertFalse(follower.isDone());
+        scoreComputationReleased.countDown();
+
+        List<PullRequestReview> leaderReviews = leader.get(10, TimeUnit.SECONDS);
+        List<PullRequestReview> followerReviews = follower.get(10, TimeUnit.SECONDS);
+        assertEquals(1, leaderReviews.size());
+        assertEquals(leaderReviews, followerReviews);
+        verify(pullRequestScoreComputer, times(1)).computeScore(PR_URL);
+        verify(pullRequestReviewRepository, times(1)).save(any());
+    }
+
+    @Test
+    void testStartAssignmentKeepsAssignmentInFlightUntilTransactionCompletes() {
+        PullRequestAssessment assessment = new PullRequestAssessment(PR_URL, PR_FILE_DETAILS, PR_SCORE, MULTIPLIER);
+        when(developerService.getDeveloperWithLowestScore(Collections.emptyList())).thenReturn(DEVELOPER_FOO);
+        when(pullRequestReviewRepository.findByPullRequestUrl(PR_URL, Pageable.unpaged())).thenReturn(Page.empty());
+        when(pullRequestReviewRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            CompletableFuture<List<PullRequestReview>> leader = pullRequestReviewService.startAssignment(PR_URL,
+                    Collections.emptyList(), Collections.emptyList(), () -> assessment);
+            CompletableFuture<List<PullRequestReview>> follower = pullRequestReviewService.startAssignment(PR_URL,
+                    Collections.emptyList(), Collections.emptyList(), () -> {
+                        throw new AssertionError("Joined assignment computed its own score");
+                    });
+
+            assertSame(leader, follower);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization
+                            .afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        pullRequestReviewService.startAssignment(PR_URL, Collections.emptyList(), Collections.emptyList(),
+                () -> assessment);
+        verify(pullRequestReviewRepository, times(2)).save(any());
+    }
+
+    @Test
+    void testAssignConcurrentlyWithDifferentParameters() throws Exception {
+        CountDownLatch scoreComputationStarted = new CountDownLatch(1);
+        CountDownLatch scoreComputationReleased = new CountDownLatch(1);
+        when(developerService.getDeveloperWithLowestScore(Collections.emptyList())).thenReturn(DEVELOPER_FOO);
+        when(pullRequestScoreComputer.computeScore(PR_URL)).thenAnswer(invocation -> {
+            scoreComputationStarted.countDown();
+            scoreComputationReleased.await();
+            return new PullRequestAssessment(PR_URL, PR_FILE_DETAILS, PR_SCORE, MULTIPLIER);
+        });
+        when(pullRequestReviewRepository.findByPullRequestUrl(PR_URL, Pageable.unpaged())).thenReturn(Page.empty());
+        when(pullRequestReviewRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        CompletableFuture<List<PullRequestReview>> leader = CompletableFuture.supplyAsync(
+                () -> pullRequestReviewService.assign(PR_URL, Collections.emptyList(), Collections.emptyList()));
+        assertTrue(scoreComputationStarted.await(10, TimeUnit.SECONDS));
+        List<String> assigneeList = List.of(DEVELOPER_BAR.getLogin());
+        List<String> assigneeExclusionList = Collections.emptyList();
+
+        ConflictException exception = assertThrows(ConflictException.class,
+                () -> pullRequestReviewService.assign(PR_URL, assigneeList, assigneeExclusionList));
+        scoreComputationReleased.countDown();
+
+        assertEquals("Pull request " + PR_URL + " is already being assigned with different parameters",
+                exception.getMessage());
+        assertEquals(1, leader.get(10, TimeUnit.SECONDS)
+                .size());
     }
 
     @Test
@@ -332,6 +590,99 @@ class PullRequestReviewServiceTest {
         assertEquals("Developers [foo] have already reviewed the PR before", exception.getMessage());
     }
 
+    @Test
+    void testAssignBatch() {
+        String otherPrUrl = "https://example.com/foo/bar/124";
+        String invalidPrUrl = "https://example.com/foo";
+        Map<String, CompletableFuture<PullRequestAssessment>> assessments = new LinkedHashMap<>();
+        assessments.put(PR_URL, CompletableFuture
+                .completedFuture(new PullRequestAssessment(PR_URL, PR_FILE_DETAILS, PR_SCORE, MULTIPLIER)));
+        assessments.put(otherPrUrl, CompletableFuture
+                .completedFuture(new PullRequestAssessment(otherPrUrl, PR_FILE_DETAILS, PR_SCORE, MULTIPLIER)));
+        assessments.put(invalidPrUrl, CompletableFuture
+                .failedFuture(new IllegalArgumentException("Invalid pull request URL: " + invalidPrUrl)));
+        when(pullRequestScoreComputer.computeScores(List.of(PR_URL, otherPrUrl, invalidPrUrl)))
+                .thenReturn(assessments);
+        when(pullRequestReviewRepository.findByPullRequestUrl(any(), any())).thenReturn(Page.empty());
+        when(developerService.getDeveloperWithLowestScore(Collections.emptyList())).thenReturn(DEVELOPER_FOO);
+        when(developerService.getDeveloper(DEVELOPER_BAR.getLogin())).thenReturn(DEVELOPER_BAR);
+        when(pullRequestReviewRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(developerService.addToScoreAndGet(DEVELOPER_FOO.getLogin(), PR_SCORE))
+                .thenReturn(DEVELOPER_FOO.withScore(PR_SCORE));
+        when(developerService.addToScoreAndGet(DEVELOPER_BAR.getLogin(), PR_SCORE))
+                .thenReturn(DEVELOPER_BAR.withScore(PR_SCORE));
+
+        List<PullRequestAssignResult> results = pullRequestReviewService.assignBatch(List.of( //
+                PullRequestAssignRequest.builder()
+                        .pullRequestUrl(PR_URL)
+                        .build(),
+                PullRequestAssignRequest.builder()
+                        .pullRequestUrl(otherPrUrl)
+                        .assigneeList(List.of(DEVELOPER_BAR.getLogin()))
+                        .build(),
+                PullRequestAssignRequest.builder()
+                        .pullRequestUrl(invalidPrUrl)
+                        .build()));
+
+        assertEquals(3, results.size());
+        PullRequestAssignResult result1 = results.get(0);
+        assertEquals(PR_URL, result1.getPullRequestUrl());
+        assertNull(result1.getError());
+        assertEquals(1, result1.getReviews()
+                .size());
+        assertEquals(DEVELOPER_FOO.withScore(PR_SCORE), result1.getReviews()
+                .get(0)
+                .getDeveloper());
+
+        PullRequestAssignResult result2 = results.get(1);
+        assertEquals(otherPrUrl, result2.getPullRequestUrl());
+        assertNull(result2.getError());
+        assertEquals(1, result2.getReviews()
+                .size());
+        assertEquals(DEVELOPER_BAR.withScore(PR_SCORE), result2.getReviews()
+                .get(0)
+                .getDeveloper());
+
+        PullRequestAssignResult result3 = results.get(2);
+        assertEquals(invalidPrUrl, result3.getPullRequestUrl());
+        assertEquals("Invalid pull request URL: " + invalidPrUrl, result3.getError());
+        assertTrue(result3.getReviews()
+                .isEmpty());
+        verify(pullRequestReviewRepository, times(2)).save(any());
+    }
+
+    @Test
+    void testAssignBatchWhileAlreadyBeingAssigned() throws Exception {
+        CountDownLatch scoreComputationStarted = new CountDownLatch(1);
+        CountDownLatch scoreComputationReleased = new CountDownLatch(1);
+        when(developerService.getDeveloperWithLowestScore(Collections.emptyList())).thenReturn(DEVELOPER_FOO);
+        when(pullRequestScoreComputer.computeScore(PR_URL)).thenAnswer(invocation -> {
+            scoreComputationStarted.countDown();
+            scoreComputationReleased.await();
+            return new PullRequestAssessment(PR_URL, PR_FILE_DETAILS, PR_SCORE, MULTIPLIER);
+        });
+        when(pullRequestScoreComputer.computeScores(List.of(PR_URL))).thenReturn(Map.of(PR_URL, CompletableFuture
+                .completedFuture(new PullRequestAssessment(PR_URL, PR_FILE_DETAILS, PR_SCORE, MULTIPLIER))));
+        when(pullRequestReviewRepository.findByPullRequestUrl(PR_URL, Pageable.unpaged())).thenReturn(Page.empty());
+        when(pullRequestReviewRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        CompletableFuture<List<PullRequestReview>> leader = CompletableFuture.supplyAsync(
+                () -> pullRequestReviewService.assign(PR_URL, Collections.emptyList(), Collections.emptyList()));
+        assertTrue(scoreComputationStarted.await(10, TimeUnit.SECONDS));
+        List<PullRequestAssignResult> results = pullRequestReviewService.assignBatch(List.of( //
+                PullRequestAssignRequest.builder()
+                        .pullRequestUrl(PR_URL)
+                        .build()));
+        scoreComputationReleased.countDown();
+
+        assertEquals(1, results.size());
+        assertEquals("Pull request " + PR_URL + " is already being assigned", results.get(0)
+                .getError());
+        assertEquals(1, leader.get(10, TimeUnit.SECONDS)
+                .size());
+        verify(pullRequestReviewRepository, times(1)).save(any());
+    }
+
     @Test
     void testDeleteReview() {
         UUID id = REVIEW_1.getId();
@@ -339,7 +690,7 @@ class PullRequestReviewServiceTest {
 
         assertDoesNotThrow(() -> pullRequestReviewService.deleteReview(id));
 
-        verify(developerService).saveDeveloper(DEVELOPER_FOO.withScore(DEVELOPER_FOO.getScore() - REVIEW_1.getScore()));
+        verify(developerService).addToScore(DEVELOPER_FOO.getLogin(), -REVIEW_1.getScore());
         verify(pullRequestReviewRepository).deleteById(id);
     }
 
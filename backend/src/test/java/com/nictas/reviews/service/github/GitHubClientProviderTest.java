@@ -1,21 +1,34 @@
 package com.nictas.reviews.service.github;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.function.BiFunction;
+import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.kohsuke.github.GitHub;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.nictas.reviews.service.github.settings.GitHubHostOptions;
 import com.nictas.reviews.service.github.settings.GitHubSettings;
 import com.nictas.reviews.service.github.settings.GitHubSettingsProvider;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+
 @ExtendWith(MockitoExtension.class)
 class GitHubClientProviderTest {
 
@@ -31,7 +44,9 @@ class GitHubClientProviderTest {
     @Mock
     private GitHub delegateBar;
     @Mock
-    private BiFunction<String, String, GitHub> delegateConstructor;
+    private GitHubClientProvider.DelegateConstructor delegateConstructor;
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
     @InjectMocks
     private GitHubClientProvider clientProvider;
 
@@ -39,22 +54,22 @@ class GitHubClientProviderTest {
     void testGetClientForUrl() {
         when(settingsProvider.getSettingsForUrl(SETTINGS_FOO.getUrl())).thenReturn(SETTINGS_FOO);
         when(settingsProvider.getSettingsForUrl(SETTINGS_BAR.getUrl())).thenReturn(SETTINGS_BAR);
-        when(delegateConstructor.apply(SETTINGS_FOO.getApi(), SETTINGS_FOO.getToken())).thenReturn(delegateFoo);
-        when(delegateConstructor.apply(SETTINGS_BAR.getApi(), SETTINGS_BAR.getToken())).thenReturn(delegateBar);
+        when(delegateConstructor.create(eq(SETTINGS_FOO), eq(SETTINGS_FOO.getToken()), any())).thenReturn(delegateFoo);
+        when(delegateConstructor.create(eq(SETTINGS_BAR), eq(SETTINGS_BAR.getToken()), any())).thenReturn(delegateBar);
 
         GitHubClient clientFoo = clientProvider.getClientForUrl(SETTINGS_FOO.getUrl());
         assertSame(delegateFoo, clientFoo.getDelegate());
         GitHubClient clientBar = clientProvider.getClientForUrl(SETTINGS_BAR.getUrl());
         assertSame(delegateBar, clientBar.getDelegate());
 
-        verify(delegateConstructor).apply(SETTINGS_FOO.getApi(), SETTINGS_FOO.getToken());
-        verify(delegateConstructor).apply(SETTINGS_BAR.getApi(), SETTINGS_BAR.getToken());
+        verify(delegateConstructor).create(eq(SETTINGS_FOO), eq(SETTINGS_FOO.getToken()), any());
+        verify(delegateConstructor).create(eq(SETTINGS_BAR), eq(SETTINGS_BAR.getToken()), any());
     }
 
     @Test
     void testGetClientForUrlCaching() {
         when(settingsProvider.getSettingsForUrl(SETTINGS_FOO.getUrl())).thenReturn(SETTINGS_FOO);
-        when(delegateConstructor.apply(SETTINGS_FOO.getApi(), SETTINGS_FOO.getToken())).thenReturn(delegateFoo);
+        when(delegateConstructor.create(eq(SETTINGS_FOO), eq(SETTINGS_FOO.getToken()), any())).thenReturn(delegateFoo);
 
         GitHubClient clientFoo1 = clientProvider.getClientForUrl(SETTINGS_FOO.getUrl());
         // Get the same client a few more times to check whether the caching is working
@@ -65,19 +80,107 @@ class GitHubClientProviderTest {
         assertSame(clientFoo2, clientFoo3);
         assertSame(clientFoo3, clientFoo4);
 
-        verify(delegateConstructor).apply(SETTINGS_FOO.getApi(), SETTINGS_FOO.getToken());
+        verify(delegateConstructor).create(eq(SETTINGS_FOO), eq(SETTINGS_FOO.getToken()), any());
     }
 
     @Test
     void testGetClientForUrlWithToken() {
         String token = "test";
         when(settingsProvider.getSettingsForUrl(SETTINGS_FOO.getUrl())).thenReturn(SETTINGS_FOO);
-        when(delegateConstructor.apply(SETTINGS_FOO.getApi(), token)).thenReturn(delegateFoo);
+        when(delegateConstructor.create(eq(SETTINGS_FOO), eq(token), any())).thenReturn(delegateFoo);
 
         GitHubClient clientFoo = clientProvider.getClientForUrl(SETTINGS_FOO.getUrl(), token);
         assertSame(delegateFoo, clientFoo.getDelegate());
 
-        verify(delegateConstructor).apply(SETTINGS_FOO.getApi(), token);
+        verify(delegateConstructor).create(eq(SETTINGS_FOO), eq(token), any());
+    }
+
+    @Test
+    void testGetClientForUrlWithTokenCaching() {
+        String token = "test";
+        when(settingsProvider.getSettingsForUrl(SETTINGS_FOO.getUrl())).thenReturn(SETTINGS_FOO);
+        when(delegateConstructor.create(eq(SETTINGS_FOO), eq(token), any())).thenReturn(delegateFoo);
+        when(delegateConstructor.create(eq(SETTINGS_FOO), eq("other"), any())).thenReturn(delegateBar);
+
+        GitHubClient client1 = clientProvider.getClientForUrl(SETTINGS_FOO.getUrl(), token);
+        GitHubClient client2 = clientProvider.getClientForUrl(SETTINGS_FOO.getUrl(), token);
+        GitHubClient otherClient = clientProvider.getClientForUrl(SETTINGS_FOO.getUrl(), "other");
+
+        assertSame(client1, client2);
+        assertSame(delegateBar, otherClient.getDelegate());
+        verify(delegateConstructor).create(eq(SETTINGS_FOO), eq(token), any());
+        assertEquals(1, meterRegistry.get("cache.gets")
+                .tags("cache", GitHubClientProvider.TOKEN_CLIENTS_CACHE_NAME, "host", SETTINGS_FOO.getUrl(),
+                        "result", "hit")
+                .functionCounter()
+                .count());
+    }
+
+    @Test
+    void testGetTokenHttpClientSharesConnectionPoolOfHost() {
+        OkHttpClient tokenHttpClient = clientProvider.getTokenHttpClient(SETTINGS_FOO);
+
+        assertSame(tokenHttpClient, clientProvider.getTokenHttpClient(SETTINGS_FOO));
+        assertSame(clientProvider.getHttpClient(SETTINGS_FOO)
+                .connectionPool(), tokenHttpClient.connectionPool());
+        assertNotSame(clientProvider.getTokenHttpClient(SETTINGS_BAR)
+                .connectionPool(), tokenHttpClient.connectionPool());
+    }
+
+    @Test
+    void testGetHttpClientWithCache(@TempDir Path cacheDirectory) {
+        GitHubSettings settings = new GitHubSettings(SETTINGS_FOO.getUrl(), SETTINGS_FOO.getApi(),
+                SETTINGS_FOO.getToken(), GitHubHostOptions.builder()
+                        .httpCacheDirectory(cacheDirectory.toString())
+                        .httpCacheSize(1024)
+                        .build());
+
+        OkHttpClient httpClient = clientProvider.getHttpClient(settings);
+
+        assertEquals(cacheDirectory.toFile(), httpClient.cache()
+                .directory());
+        assertEquals(1024, httpClient.cache()
+                .maxSize());
+        assertSame(httpClient, clientProvider.getHttpClient(settings));
+    }
+
+    @Test
+    void testGetHttpClientWithoutCache() {
+        OkHttpClient httpClient = clientProvider.getHttpClient(SETTINGS_FOO);
+
+        assertNull(httpClient.cache());
+    }
+
+    @Test
+    void testGetHttpClientWithRateLimitGovernor() {
+        OkHttpClient httpClient = clientProvider.getHttpClient(SETTINGS_FOO);
+
+        assertEquals(1, httpClient.interceptors()
+                .stream()
+                .filter(GitHubRateLimitGovernor.class::isInstance)
+                .count());
+    }
+
+    @Test
+    void testGetClientForUrlWithGraphQl() {
+        GitHubSettings settings = new GitHubSettings(SETTINGS_FOO.getUrl(), SETTINGS_FOO.getApi(),
+                SETTINGS_FOO.getToken(), GitHubHostOptions.builder()
+                        .graphQl(true)
+                        .build());
+        when(settingsProvider.getSettingsForUrl(SETTINGS_FOO.getUrl())).thenReturn(settings);
+        when(delegateConstructor.create(eq(settings), eq(SETTINGS_FOO.getToken()), any())).thenReturn(delegateFoo);
+
+        GitHubClient clientFoo = clientProvider.getClientForUrl(SETTINGS_FOO.getUrl());
+
+        assertInstanceOf(GitHubGraphQlClient.class, clientFoo);
+        assertSame(delegateFoo, clientFoo.getDelegate());
+    }
+
+    @Test
+    void testGetGraphQlEndpoint() {
+        assertEquals("https://foo.example.com/api/graphql", GitHubClientProvider.getGraphQlEndpoint(SETTINGS_FOO));
+        assertEquals("https://api.github.com/graphql", GitHubClientProvider
+                .getGraphQlEndpoint(new GitHubSettings("https://github.com", "https://api.github.com", "token")));
     }
 
 }
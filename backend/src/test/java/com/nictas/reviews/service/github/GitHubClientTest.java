@@ -2,15 +2,19 @@ package com.nictas.reviews.service.github;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.kohsuke.github.GHCommitPointer;
 import org.kohsuke.github.GHMyself;
 import org.kohsuke.github.GHOrganization;
 import org.kohsuke.github.GHPullRequest;
@@ -84,6 +88,29 @@ class GitHubClientTest {
             assertEquals(expectedDevelopers, developers);
         }
 
+        @Test
+        void testGetDevelopersWithUserEmailCache() throws IOException {
+            when(delegate.getOrganization(ORGANIZATION_NAME)).thenReturn(organization);
+            when(organization.getTeamByName(TEAM_NAME)).thenReturn(team);
+            when(team.listMembers()).thenReturn(userIterable);
+            when(userIterable.toList()).thenReturn(List.of(userFoo, userBar));
+            when(userFoo.getLogin()).thenReturn(USER_FOO_LOGIN);
+            when(userFoo.getEmail()).thenReturn(USER_FOO_EMAIL);
+            when(userBar.getLogin()).thenReturn(USER_BAR_LOGIN);
+            when(userBar.getEmail()).thenReturn(USER_BAR_EMAIL);
+
+            try (GitHubUserEmailCache userEmailCache = new GitHubUserEmailCache(Duration.ofHours(1), 2)) {
+                GitHubClient cachingClient = new GitHubClient(delegate, userEmailCache);
+                cachingClient.getDevelopers(ORGANIZATION_NAME, TEAM_NAME);
+                List<Developer> developers = cachingClient.getDevelopers(ORGANIZATION_NAME, TEAM_NAME);
+
+                assertEquals(List.of(new Developer(USER_FOO_LOGIN, USER_FOO_EMAIL),
+                        new Developer(USER_BAR_LOGIN, USER_BAR_EMAIL)), developers);
+            }
+            verify(userFoo, times(1)).getEmail();
+            verify(userBar, times(1)).getEmail();
+        }
+
         @Test
         void testGetDevelopersWithNonExistingTeam() throws IOException {
             when(delegate.getOrganization(ORGANIZATION_NAME)).thenReturn(organization);
@@ -136,6 +163,7 @@ class GitHubClientTest {
         private static final int BAR_DELETIONS = 11;
         private static final int TOTAL_ADDITIONS = 83;
         private static final int TOTAL_DELETIONS = 26;
+        private static final String HEAD_SHA = "4f9b1c2e";
 
         @Mock
         private GitHubSettingsProvider settings;
@@ -149,6 +177,9 @@ class GitHubClientTest {
         @Mock
         private GHPullRequest pullRequest;
 
+        @Mock
+        private GHCommitPointer head;
+
         @Mock
         private PagedIterable<GHPullRequestFileDetail> fileDetailIterable;
 
@@ -161,6 +192,35 @@ class GitHubClientTest {
         @InjectMocks
         private GitHubClient gitHubClient;
 
+        @Test
+        void testGetPullRequestHead() throws IOException {
+            when(delegate.getRepository(String.format("%s/%s", OWNER, REPOSITORY))).thenReturn(repository);
+            when(repository.getPullRequest(PR_NUMBER)).thenReturn(pullRequest);
+            when(pullRequest.getHead()).thenReturn(head);
+            when(head.getSha()).thenReturn(HEAD_SHA);
+            when(pullRequest.listFiles()).thenReturn(fileDetailIterable);
+            when(pullRequest.getAdditions()).thenReturn(FOO_ADDITIONS);
+            when(pullRequest.getDeletions()).thenReturn(FOO_DELETIONS);
+            when(fileDetailIterable.toList()).thenReturn(List.of(fileDetailFoo));
+            when(fileDetailFoo.getFilename()).thenReturn(FOO_FILE_NAME);
+            when(fileDetailFoo.getAdditions()).thenReturn(FOO_ADDITIONS);
+            when(fileDetailFoo.getDeletions()).thenReturn(FOO_DELETIONS);
+
+            PullRequestHead pullRequestHead = gitHubClient
+                    .getPullRequestHead(new PullRequest(OWNER, REPOSITORY, PR_NUMBER));
+
+            assertEquals(HEAD_SHA, pullRequestHead.getSha());
+            assertEquals(new PullRequestFileDetails(FOO_ADDITIONS, FOO_DELETIONS, List.of(//
+                    ChangedFile.builder()
+                            .name(FOO_FILE_NAME)
+                            .additions(FOO_ADDITIONS)
+                            .deletions(FOO_DELETIONS)
+                            .build())),
+                    pullRequestHead.getInfo());
+            verify(delegate, times(1)).getRepository(String.format("%s/%s", OWNER, REPOSITORY));
+            verify(repository, times(1)).getPullRequest(PR_NUMBER);
+        }
+
         @Test
         void testGetPullRequestInfo() throws IOException {
             when(delegate.getRepository(String.format("%s/%s", OWNER, REPOSITORY))).thenReturn(repository);
@@ -0,0 +1,199 @@
+package com.nictas.reviews.service.github;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GHOrganization;
+import org.kohsuke.github.GHUser;
+import org.kohsuke.github.GitHub;
+import org.kohsuke.github.PagedIterable;
+import org.mockito.Mockito;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nictas.reviews.domain.Developer;
+import com.nictas.reviews.domain.PullRequest;
+import com.nictas.reviews.domain.PullRequestFileDetails;
+import com.nictas.reviews.domain.PullRequestFileDetails.ChangedFile;
+
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+class GitHubGraphQlClientTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String TOKEN = "token";
+    private static final PullRequest PULL_REQUEST = new PullRequest("baz", "qux", 123);
+
+    private GitHub delegate;
+    private MockWebServer server;
+    private GitHubGraphQlClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        delegate = Mockito.mock(GitHub.class);
+        client = new GitHubGraphQlClient(delegate, null, new OkHttpClient(), server.url("/api/graphql")
+                .toString(), TOKEN);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    void testGetPullRequestInfo() throws Exception {
+        enqueue("""
+                {"data":{"repository":{"pullRequest":{"additions":83,"deletions":26,"headRefOid":"abc",
+                "files":{"nodes":[{"path":"foo.txt","additions":10,"deletions":15}],
+                "pageInfo":{"hasNextPage":true,"endCursor":"cursor1"}}}}}}""");
+        enqueue("""
+                {"data":{"repository":{"pullRequest":{"additions":83,"deletions":26,"headRefOid":"abc",
+                "files":{"nodes":[{"path":"bar.txt","additions":73,"deletions":11}],
+                "pageInfo":{"hasNextPage":false,"endCursor":"cursor2"}}}}}}""");
+
+        PullRequestFileDetails pullRequestInfo = client.getPullRequestInfo(PULL_REQUEST);
+
+        PullRequestFileDetails expectedPullRequestInfo = new PullRequestFileDetails(83, 26, List.of(//
+                ChangedFile.builder()
+                        .name("foo.txt")
+                        .additions(10)
+                        .deletions(15)
+                        .build(),
+                ChangedFile.builder()
+                        .name("bar.txt")
+                        .additions(73)
+                        .deletions(11)
+                        .build()));
+        assertEquals(expectedPullRequestInfo, pullRequestInfo);
+        RecordedRequest firstRequest = server.takeRequest();
+        assertEquals("Bearer " + TOKEN, firstRequest.getHeader("Authorization"));
+        JsonNode firstVariables = getVariables(firstRequest);
+        assertEquals("baz", firstVariables.path("owner")
+                .asText());
+        assertEquals(123, firstVariables.path("number")
+                .asInt());
+        assertEquals("cursor1", getVariables(server.takeRequest()).path("cursor")
+                .asText());
+    }
+
+    @Test
+    void testGetPullRequestInfoWithErrors() {
+        enqueue("""
+                {"data":{"repository":null},"errors":[{"message":"Could not resolve to a Repository"}]}""");
+
+        Exception exception = assertThrows(GitHubClientException.class,
+                () -> client.getPullRequestInfo(PULL_REQUEST));
+
+        assertEquals("Error while fetching info for PR baz/qux/123: Could not resolve to a Repository",
+                exception.getMessage());
+    }
+
+    @Test
+    void testGetPullRequestInfoWithServerError() {
+        server.enqueue(new MockResponse().setResponseCode(502));
+
+        Exception exception = assertThrows(GitHubClientException.class,
+                () -> client.getPullRequestInfo(PULL_REQUEST));
+
+        assertEquals("Error while fetching info for PR baz/qux/123: GraphQL request failed with status 502",
+                exception.getMessage());
+    }
+
+    @Test
+    void testGetPullRequestHead() {
+        enqueue("""
+                {"data":{"repository":{"pullRequest":{"headRefOid":"abc"}}}}""");
+
+        assertEquals("abc", client.getPullRequestHead(PULL_REQUEST)
+                .getSha());
+    }
+
+    @Test
+    void testGetDevelopers() throws Exception {
+        enqueue("""
+                {"data":{"organization":{"teams":{"nodes":[{"name":"qux-admins","slug":"qux-admins"},
+                {"name":"qux","slug":"qux-slug"}]}}}}""");
+        enqueue("""
+                {"data":{"organization":{"team":{"members":{"nodes":[{"login":"foo","email":"foo@example.com"},
+                {"login":"bar","email":""}],"pageInfo":{"hasNextPage":false,"endCursor":null}}}}}}""");
+
+        List<Developer> developers = client.getDevelopers("baz", "qux");
+
+        assertEquals(List.of(new Developer("foo", "foo@example.com"), new Developer("bar", null)), developers);
+        server.takeRequest();
+        assertEquals("qux-slug", getVariables(server.takeRequest()).path("slug")
+                .asText());
+    }
+
+    @Test
+    void testGetDevelopersWithNonExistingTeam() {
+        enqueue("""
+                {"data":{"organization":{"teams":{"nodes":[]}}}}""");
+
+        Exception exception = assertThrows(GitHubClientException.class, () -> client.getDevelopers("baz", "qux"));
+
+        assertEquals("Unable to find team qux in organization: baz", exception.getMessage());
+    }
+
+    @Test
+    void testGetOrganizationAdmins() throws IOException {
+        GHOrganization organization = Mockito.mock(GHOrganization.class);
+        @SuppressWarnings("unchecked")
+        PagedIterable<GHUser> admins = Mockito.mock(PagedIterable.class);
+        GHUser admin = Mockito.mock(GHUser.class);
+        Mockito.when(delegate.getOrganization("baz"))
+                .thenReturn(organization);
+        Mockito.when(organization.listMembersWithRole(GitHubClient.ORGANIZATION_ROLE_ADMIN))
+                .thenReturn(admins);
+        Mockito.when(admins.toList())
+                .thenReturn(List.of(admin));
+        Mockito.when(admin.getLogin())
+                .thenReturn("foo");
+        Mockito.when(admin.getEmail())
+                .thenReturn("foo@example.com");
+
+        assertEquals(List.of(new Developer("foo", "foo@example.com")), client.getOrganizationAdmins("baz"));
+        assertEquals(0, server.getRequestCount());
+    }
+
+    @Test
+    void testGetMyself() {
+        enqueue("""
+                {"data":{"viewer":{"login":"foo","email":"foo@example.com"}}}""");
+
+        assertEquals(new Developer("foo", "foo@example.com"), client.getMyself());
+    }
+
+    @Test
+    void testGetMyselfWithInvalidToken() {
+        server.enqueue(new MockResponse().setResponseCode(401));
+
+        GitHubClientException exception = assertThrows(GitHubClientException.class, () -> client.getMyself());
+
+        assertTrue(exception.isUnauthorized());
+    }
+
+    private void enqueue(String body) {
+        server.enqueue(new MockResponse().setHeader("Content-Type", "application/json")
+                .setBody(body));
+    }
+
+    private JsonNode getVariables(RecordedRequest request) throws IOException {
+        return OBJECT_MAPPER.readTree(request.getBody()
+                .readUtf8())
+                .path("variables");
+    }
+
+}
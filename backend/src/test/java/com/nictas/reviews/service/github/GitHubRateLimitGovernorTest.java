@@ -0,0 +1,177 @@
+package com.nictas.reviews.service.github;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+class GitHubRateLimitGovernorTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+    private static final String HOST = "https://github.example.com";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Long> sleeps = new CopyOnWriteArrayList<>();
+
+    private MockWebServer server;
+    private OkHttpClient httpClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        GitHubRateLimitGovernor governor = new GitHubRateLimitGovernor(HOST, 0.2, 0.5, meterRegistry,
+                Clock.fixed(NOW, ZoneOffset.UTC), sleeps::add);
+        httpClient = new OkHttpClient.Builder().addInterceptor(governor)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    void testBudgetMetrics() throws IOException {
+        enqueue(1000, 800, 600);
+
+        execute("/api/v3/user");
+
+        assertEquals(1000, meterRegistry.get("github.rate-limit.limit")
+                .tags("host", HOST, "resource", "core")
+                .gauge()
+                .value());
+        assertEquals(800, meterRegistry.get("github.rate-limit.remaining")
+                .tags("host", HOST, "resource", "core")
+                .gauge()
+                .value());
+        assertEquals(NOW.getEpochSecond() + 600, meterRegistry.get("github.rate-limit.reset")
+                .tags("host", HOST, "resource", "core")
+                .gauge()
+                .value());
+    }
+
+    @Test
+    void testBackgroundRequestWithEnoughBudget() throws IOException {
+        enqueue(1000, 800, 600);
+        enqueue(1000, 799, 600);
+
+        execute("/api/v3/user");
+        GitHubRequestPriority.runInBackground(() -> execute("/api/v3/user"));
+
+        assertTrue(sleeps.isEmpty());
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    void testBackgroundRequestIsPacedWhenBudgetIsLow() throws IOException {
+        enqueue(1000, 300, 300);
+        enqueue(1000, 299, 300);
+
+        execute("/api/v3/user");
+        GitHubRequestPriority.runInBackground(() -> execute("/api/v3/user"));
+
+        // 300 seconds until the reset spread over the 100 requests above the reserve of 200
+        assertEquals(List.of(3000L), sleeps);
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    void testBackgroundRequestIsDeferredWhenBudgetIsReserved() throws IOException {
+        enqueue(1000, 200, 600);
+
+        execute("/api/v3/user");
+        GitHubClientException exception = assertThrows(GitHubClientException.class,
+                () -> GitHubRequestPriority.runInBackground(() -> execute("/api/v3/user")));
+
+        assertTrue(exception.getMessage()
+                .contains("Deferring background request to " + HOST + ": only 200 of 1000 core requests are left"));
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    void testBackgroundRequestPacingIsCapped() throws IOException {
+        enqueue(1000, 201, 3600);
+        enqueue(1000, 200, 3600);
+
+        execute("/api/v3/user");
+        GitHubRequestPriority.runInBackground(() -> execute("/api/v3/user"));
+
+        assertEquals(List.of(GitHubRateLimitGovernor.MAX_PACING_DELAY.toMillis()), sleeps);
+    }
+
+    @Test
+    void testInteractiveRequestUsesReservedBudget() throws IOException {
+        enqueue(1000, 10, 600);
+        enqueue(1000, 9, 600);
+
+        execute("/api/v3/user");
+        execute("/api/v3/user");
+
+        assertTrue(sleeps.isEmpty());
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    void testBackgroundRequestAfterReset() throws IOException {
+        enqueue(1000, 0, -1);
+        enqueue(1000, 999, 3600);
+
+        execute("/api/v3/user");
+        GitHubRequestPriority.runInBackground(() -> execute("/api/v3/user"));
+
+        assertTrue(sleeps.isEmpty());
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    void testGraphQlBudgetIsTrackedSeparately() throws IOException {
+        enqueue(5000, 0, 600);
+        enqueue(1000, 900, 600);
+
+        execute("/api/graphql");
+        GitHubRequestPriority.runInBackground(() -> execute("/api/v3/user"));
+
+        assertEquals(0, meterRegistry.get("github.rate-limit.remaining")
+                .tags("host", HOST, "resource", "graphql")
+                .gauge()
+                .value());
+        assertEquals(2, server.getRequestCount());
+    }
+
+    private void enqueue(long limit, long remaining, long secondsUntilReset) {
+        server.enqueue(new MockResponse().setBody("{}")
+                .setHeader(GitHubRateLimitGovernor.LIMIT_HEADER, limit)
+                .setHeader(GitHubRateLimitGovernor.REMAINING_HEADER, remaining)
+                .setHeader(GitHubRateLimitGovernor.RESET_HEADER, NOW.getEpochSecond() + secondsUntilReset));
+    }
+
+    private Void execute(String path) {
+        Request request = new Request.Builder().url(server.url(path))
+                .build();
+        try (Response response = httpClient.newCall(request)
+                .execute()) {
+            return null;
+        } catch (IOException e) {
+            throw new GitHubClientException(e.getMessage(), e);
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.nictas.reviews.service.github;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kohsuke.github.GHUser;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GitHubUserEmailCacheTest {
+
+    @Mock
+    private GHUser userFoo;
+    @Mock
+    private GHUser userBar;
+
+    private final GitHubUserEmailCache cache = new GitHubUserEmailCache(Duration.ofHours(1), 2);
+
+    @AfterEach
+    void tearDown() {
+        cache.close();
+    }
+
+    @Test
+    void testGetEmails() {
+        when(userFoo.getLogin()).thenReturn("foo");
+        when(userBar.getLogin()).thenReturn("bar");
+        Map<String, AtomicInteger> fetches = new ConcurrentHashMap<>();
+        Function<GHUser, String> emailFetcher = user -> {
+            fetches.computeIfAbsent(user.getLogin(), login -> new AtomicInteger())
+                    .incrementAndGet();
+            return "foo".equals(user.getLogin()) ? "foo@example.com" : null;
+        };
+
+        Map<String, Optional<String>> emails = cache.getEmails(List.of(userFoo, userBar), emailFetcher);
+        cache.getEmails(List.of(userFoo, userBar), emailFetcher);
+
+        assertEquals(Map.of("foo", Optional.of("foo@example.com"), "bar", Optional.empty()), emails);
+        assertEquals(1, fetches.get("foo")
+                .get());
+        assertEquals(1, fetches.get("bar")
+                .get());
+    }
+
+    @Test
+    void testGetEmailsFetchesOnlyNewLogins() {
+        when(userFoo.getLogin()).thenReturn("foo");
+        when(userBar.getLogin()).thenReturn("bar");
+        List<String> fetchedLogins = new CopyOnWriteArrayList<>();
+        Function<GHUser, String> emailFetcher = user -> {
+            fetchedLogins.add(user.getLogin());
+            return user.getLogin() + "@example.com";
+        };
+
+        cache.getEmails(List.of(userFoo), emailFetcher);
+        Map<String, Optional<String>> emails = cache.getEmails(List.of(userFoo, userBar), emailFetcher);
+
+        assertEquals(List.of("foo", "bar"), fetchedLogins);
+        assertEquals(Optional.of("bar@example.com"), emails.get("bar"));
+    }
+
+    @Test
+    void testGetEmailsWithError() {
+        when(userFoo.getLogin()).thenReturn("foo");
+        List<GHUser> users = List.of(userFoo);
+        Function<GHUser, String> emailFetcher = user -> {
+            throw new GitHubClientException("Error while fetching email of user foo: Connection error");
+        };
+
+        Exception exception = assertThrows(GitHubClientException.class, () -> cache.getEmails(users, emailFetcher));
+
+        assertEquals("Error while fetching email of user foo: Connection error", exception.getMessage());
+        assertTrue(cache.getEmails(users, user -> "foo@example.com")
+                .get("foo")
+                .isPresent());
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.nictas.reviews.service.github;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.nictas.reviews.domain.PullRequest;
+import com.nictas.reviews.domain.PullRequestFileDetails;
+import com.nictas.reviews.domain.PullRequestFileDetails.ChangedFile;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class PullRequestInfoCacheTest {
+
+    private static final String PR_URL = "https://github.com/example/repository/pull/123";
+    private static final PullRequest PULL_REQUEST = PullRequest.fromUrl(PR_URL);
+    private static final PullRequestFileDetails PR_FILE_DETAILS = new PullRequestFileDetails(20, 10, List.of(//
+            ChangedFile.builder()
+                    .name("file1.java")
+                    .additions(20)
+                    .deletions(10)
+                    .build()));
+
+    @Mock
+    private GitHubClient client;
+
+    @Mock
+    private Supplier<PullRequestFileDetails> infoLoader;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PullRequestInfoCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new PullRequestInfoCache(meterRegistry, 100, Duration.ofHours(1));
+    }
+
+    @Test
+    void testGetPullRequestInfoWithUnchangedHead() {
+        when(infoLoader.get()).thenReturn(PR_FILE_DETAILS);
+        when(client.getPullRequestHead(PULL_REQUEST)).thenReturn(new PullRequestHead("abc", infoLoader));
+
+        assertEquals(PR_FILE_DETAILS, cache.getPullRequestInfo(client, PR_URL, PULL_REQUEST));
+        assertEquals(PR_FILE_DETAILS, cache.getPullRequestInfo(client, PR_URL, PULL_REQUEST));
+
+        verify(infoLoader, times(1)).get();
+        assertEquals(1., getCacheGets("hit"));
+        assertEquals(1., getCacheGets("miss"));
+    }
+
+    @Test
+    void testGetPullRequestInfoWithDifferentlyCasedUrl() {
+        String otherPrUrl = "https://GitHub.com/Example/Repository/pull/123";
+        PullRequest otherPullRequest = PullRequest.fromUrl(otherPrUrl);
+        when(infoLoader.get()).thenReturn(PR_FILE_DETAILS);
+        when(client.getPullRequestHead(PULL_REQUEST)).thenReturn(new PullRequestHead("abc", infoLoader));
+        when(client.getPullRequestHead(otherPullRequest)).thenReturn(new PullRequestHead("abc", infoLoader));
+
+        cache.getPullRequestInfo(client, PR_URL, PULL_REQUEST);
+        PullRequestFileDetails pullRequestInfo = cache.getPullRequestInfo(client, otherPrUrl, otherPullRequest);
+
+        assertEquals(PR_FILE_DETAILS, pullRequestInfo);
+        verify(infoLoader, times(1)).get();
+    }
+
+    @Test
+    void testGetPullRequestInfoWithChangedHead() {
+        when(infoLoader.get()).thenReturn(PR_FILE_DETAILS);
+        when(client.getPullRequestHead(PULL_REQUEST)).thenReturn(new PullRequestHead("abc", infoLoader),
+                new PullRequestHead("def", infoLoader));
+
+        cache.getPullRequestInfo(client, PR_URL, PULL_REQUEST);
+        cache.getPullRequestInfo(client, PR_URL, PULL_REQUEST);
+
+        verify(infoLoader, times(2)).get();
+        assertEquals(2., getCacheGets("miss"));
+    }
+
+    @Test
+    void testGetPullRequestInfoWithUnknownHead() {
+        when(infoLoader.get()).thenReturn(PR_FILE_DETAILS);
+        when(client.getPullRequestHead(PULL_REQUEST)).thenReturn(new PullRequestHead(null, infoLoader));
+
+        cache.getPullRequestInfo(client, PR_URL, PULL_REQUEST);
+        cache.getPullRequestInfo(client, PR_URL, PULL_REQUEST);
+
+        verify(infoLoader, times(2)).get();
+    }
+
+    private double getCacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", PullRequestInfoCache.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+}
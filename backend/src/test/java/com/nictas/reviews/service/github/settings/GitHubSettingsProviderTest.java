@@ -53,6 +53,24 @@ class GitHubSettingsProviderTest {
         assertEquals(ENTERPRISE_GITHUB_URL + "/api/v3", settings.getApi());
     }
 
+    @Test
+    void testGetSettingsForUrlWithOptions() throws IOException {
+        GitHubHostOptions options = GitHubHostOptions.builder()
+                .httpCacheDirectory("/tmp/github-cache")
+                .httpCacheSize(1024)
+                .build();
+        String gitHubTokensJson = OBJECT_MAPPER.writeValueAsString(GITHUB_TOKENS);
+        String gitHubOptionsJson = String.format(
+                "{\"%s\":{\"httpCacheDirectory\":\"/tmp/github-cache\",\"httpCacheSize\":1024}}",
+                ENTERPRISE_GITHUB_URL);
+        settingsProvider = new GitHubSettingsProvider(OBJECT_MAPPER, gitHubTokensJson, gitHubOptionsJson);
+
+        assertEquals(options, settingsProvider.getSettingsForUrl(ENTERPRISE_GITHUB_URL)
+                .getOptions());
+        assertEquals(GitHubHostOptions.DEFAULT, settingsProvider.getSettingsForUrl(GITHUB_URL)
+                .getOptions());
+    }
+
     @Test
     void testGetSettingsForUrlWithUnknownUrl() {
         String unknownUrl = "https://unknown.url";
@@ -67,4 +85,10 @@ class GitHubSettingsProviderTest {
         assertThrows(IllegalStateException.class, () -> new GitHubSettingsProvider(OBJECT_MAPPER, "invalidJson"));
     }
 
+    @Test
+    void testConstructorWithInvalidOptionsJson() {
+        assertThrows(IllegalStateException.class,
+                () -> new GitHubSettingsProvider(OBJECT_MAPPER, "{}", "invalidJson"));
+    }
+
 }
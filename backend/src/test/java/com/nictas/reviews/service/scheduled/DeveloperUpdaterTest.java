@@ -0,0 +1,136 @@
+package com.nictas.reviews.service.scheduled;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.nictas.reviews.domain.Developer;
+import com.nictas.reviews.repository.DeveloperRepository;
+import com.nictas.reviews.repository.PullRequestReviewRepository;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperUpdaterTest {
+
+    @Mock
+    private DeveloperRepository developerRepository;
+    @Mock
+    private PullRequestReviewRepository pullRequestReviewRepository;
+
+    @InjectMocks
+    private DeveloperUpdater developerUpdater;
+
+    @Test
+    void testAssignReviewerAddsMissingDevelopers() {
+        Developer developerFoo = new Developer("foo", "foo@example.com");
+        Developer developerBar = new Developer("bar", "bar@example.com", 10.);
+        Developer developerBaz = new Developer("baz", "baz@example.com");
+        Developer developerQux = new Developer("qux", "qux@example.com", 30.);
+
+        when(developerRepository.findAll()).thenReturn(List.of(developerBar, developerQux));
+
+        developerUpdater.updateDevelopers(List.of(developerFoo, developerBar, developerBaz, developerQux));
+
+        verify(developerRepository).insertAll(List.of(developerFoo.withScore(10.0), developerBaz.withScore(10.0)));
+        verify(developerRepository, never()).saveAll(any());
+        verify(developerRepository, never()).save(any());
+        verify(developerRepository, times(1)).findAll();
+    }
+
+    @Test
+    void testAssignReviewerUpdatesChangedEmails() {
+        Developer developerFoo = new Developer("foo", "foo@example.com", 10.);
+        Developer developerBar = new Developer("bar", "bar@example.com", 20.);
+        Developer developerBaz = new Developer("baz", "baz@example.com", 30.);
+
+        when(developerRepository.findAll()).thenReturn(List.of(developerFoo, developerBar, developerBaz));
+
+        developerUpdater.updateDevelopers(List.of(developerFoo.withEmail("foo@example.org"),
+                developerBar.withEmail(null), developerBaz.withScore(0.)));
+
+        verify(developerRepository).updateEmail(developerFoo.getLogin(), "foo@example.org");
+        verify(developerRepository, times(1)).updateEmail(any(), any());
+        verify(developerRepository, never()).saveAll(any());
+        verify(developerRepository, never()).insertAll(any());
+    }
+
+    @Test
+    void testAssignReviewerKeepsRemovedDevelopers() {
+        Developer developerFoo = new Developer("foo", "foo@example.com", 10.);
+        Developer developerBar = new Developer("bar", "bar@example.com", 20.);
+
+        when(developerRepository.findAll()).thenReturn(List.of(developerFoo, developerBar));
+
+        developerUpdater.updateDevelopers(List.of(developerFoo));
+
+        verify(developerRepository, never()).deleteById(any());
+        verify(developerRepository, never()).updateEmail(any(), any());
+    }
+
+    @Test
+    void testAssignReviewerWithoutExistingDevelopers() {
+        Developer developerFoo = new Developer("foo", "foo@example.com");
+        Developer developerBar = new Developer("bar", "bar@example.com");
+        Developer developerBaz = new Developer("baz", "baz@example.com");
+
+        when(developerRepository.findAll()).thenReturn(Collections.emptyList());
+
+        developerUpdater.updateDevelopers(List.of(developerFoo, developerBar, developerBaz, developerFoo));
+
+        verify(developerRepository).insertAll(List.of(developerFoo, developerBar, developerBaz));
+        verify(developerRepository, never()).save(any());
+    }
+
+    @Test
+    void testAssignReviewerReplicatesHistory() {
+        Developer developerFoo = new Developer("foo", "foo@example.com");
+        Developer developerBar = new Developer("bar", "bar@example.com", 10.);
+        Developer developerBaz = new Developer("baz", "baz@example.com");
+
+        when(developerRepository.findAll()).thenReturn(List.of(developerBar));
+        when(pullRequestReviewRepository.copyReviews(developerBar.getLogin(),
+                List.of(developerFoo.getLogin(), developerBaz.getLogin()))).thenReturn(4);
+
+        developerUpdater.updateDevelopers(List.of(developerFoo, developerBar, developerBaz));
+
+        verify(developerRepository).insertAll(List.of(developerFoo.withScore(10.0), developerBaz.withScore(10.0)));
+        verify(pullRequestReviewRepository).copyReviews(developerBar.getLogin(),
+                List.of(developerFoo.getLogin(), developerBaz.getLogin()));
+    }
+
+    @Test
+    void testAssignReviewerReplicatesHistoryOfFirstLoginWithLowestScore() {
+        Developer developerFoo = new Developer("foo", "foo@example.com");
+        Developer developerBar = new Developer("bar", "bar@example.com", 10.);
+        Developer developerQux = new Developer("qux", "qux@example.com", 10.);
+
+        when(developerRepository.findAll()).thenReturn(List.of(developerQux, developerBar));
+
+        developerUpdater.updateDevelopers(List.of(developerFoo, developerBar, developerQux));
+
+        verify(pullRequestReviewRepository).copyReviews(developerBar.getLogin(), List.of(developerFoo.getLogin()));
+    }
+
+    @Test
+    void testAssignReviewerWithoutHistoryToReplicate() {
+        Developer developerFoo = new Developer("foo", "foo@example.com");
+
+        when(developerRepository.findAll()).thenReturn(Collections.emptyList());
+
+        developerUpdater.updateDevelopers(List.of(developerFoo));
+
+        verify(developerRepository).insertAll(List.of(developerFoo));
+        verify(pullRequestReviewRepository, never()).copyReviews(any(), any());
+    }
+
+}
@@ -1,143 +1,265 @@
 package com.nictas.reviews.service.scheduled;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.TaskScheduler;
 
-import com.nictas.reviews.domain.Developer;
 import com.nictas.reviews.domain.FileMultiplier;
 import com.nictas.reviews.domain.Multiplier;
-import com.nictas.reviews.domain.PullRequestFileDetails;
-import com.nictas.reviews.domain.PullRequestFileDetails.ChangedFile;
-import com.nictas.reviews.domain.PullRequestReview;
-import com.nictas.reviews.service.DeveloperService;
+import com.nictas.reviews.domain.MultiplierApplicationJob;
+import com.nictas.reviews.domain.MultiplierApplicationJob.Status;
+import com.nictas.reviews.error.ConflictException;
+import com.nictas.reviews.service.MultiplierApplicationJobService;
 import com.nictas.reviews.service.MultiplierService;
 import com.nictas.reviews.service.PullRequestReviewService;
-import com.nictas.reviews.service.score.PullRequestScoreComputer;
 
 @ExtendWith(MockitoExtension.class)
 class MultiplierApplierServiceTest {
 
-    private static final Developer DEVELOPER = new Developer("foo", "foo@example.com");
+    private static final int CHUNK_SIZE = 2;
 
-    private static final Multiplier MULTIPLIER_1 = Multiplier.builder()
-            .id(UUID.fromString("2f7fc3e6-b54f-4593-aaca-98aeed3d6d02"))
-            .defaultAdditionsMultiplier(1.0)
-            .defaultDeletionsMultiplier(0.2)
-            .fileMultipliers(List.of( //
-                    FileMultiplier.builder()
-                            .fileExtension(".java")
-                            .additionsMultiplier(2.0)
-                            .deletionsMultiplier(0.4)
-                            .build(), //
-                    FileMultiplier.builder()
-                            .fileExtension(".yaml")
-                            .additionsMultiplier(0.5)
-                            .deletionsMultiplier(0.2)
-                            .build() //
-            ))
-            .createdAt(OffsetDateTime.of(2024, 3, 3, 17, 15, 0, 0, ZoneOffset.UTC))
-            .build();
-
-    private static final Multiplier MULTIPLIER_2 = Multiplier.builder()
+    private static final Multiplier MULTIPLIER = Multiplier.builder()
             .id(UUID.fromString("98626460-80e1-4acc-b2ea-b28e018ca6d2"))
             .defaultAdditionsMultiplier(1.0)
             .defaultDeletionsMultiplier(0.2)
-            .fileMultipliers(List.of( //
-                    FileMultiplier.builder()
-                            .fileExtension(".java")
-                            .additionsMultiplier(3.0)
-                            .deletionsMultiplier(0.2)
-                            .build(), //
-                    FileMultiplier.builder()
-                            .fileExtension(".yaml")
-                            .additionsMultiplier(0.2)
-                            .deletionsMultiplier(0.1)
-                            .build() //
-            ))
             .createdAt(OffsetDateTime.of(2024, 5, 13, 6, 0, 0, 0, ZoneOffset.UTC))
             .build();
 
-    private static final PullRequestReview REVIEW_1 = PullRequestReview.builder()
-            .id(UUID.fromString("91a8bdeb-8457-4905-bd08-9d2a46f27b92"))
-            .pullRequestUrl("https://github.com/foo/bar/pull/87")
-            .pullRequestFileDetails(new PullRequestFileDetails(15, 11, List.of(//
-                    ChangedFile.builder()
-                            .name("foo.java")
-                            .additions(15)
-                            .deletions(11)
-                            .build())))
-            .score(20.)
-            .developer(DEVELOPER)
-            .multiplier(MULTIPLIER_1)
+    private static final MultiplierApplicationJob JOB = MultiplierApplicationJob.builder()
+            .id(UUID.fromString("5c3b3a52-3f0c-4f1e-9d8e-0b7f6a0c2d11"))
+            .multiplier(MULTIPLIER)
+            .totalReviews(3)
             .build();
 
-    private static final PullRequestReview REVIEW_2 = PullRequestReview.builder()
-            .id(UUID.fromString("dcb724e6-d2cb-4e63-a1ab-d5bc59e5cfdc"))
-            .pullRequestUrl("https://github.com/foo/bar/pull/90")
-            .pullRequestFileDetails(new PullRequestFileDetails(11, 25, List.of(//
-                    ChangedFile.builder()
-                            .name("foo.java")
-                            .additions(10)
-                            .deletions(22)
-                            .build(),
-                    ChangedFile.builder()
-                            .name("bar.java")
-                            .additions(1)
-                            .deletions(3)
-                            .build())))
-            .score(60.)
-            .developer(DEVELOPER)
-            .multiplier(MULTIPLIER_1)
-            .build();
+    private static final MultiplierApplicationJob JOB_AFTER_FIRST_CHUNK = JOB
+            .withLastReviewId(UUID.fromString("91a8bdeb-8457-4905-bd08-9d2a46f27b92"))
+            .withProcessedReviews(2);
+
+    private static final MultiplierApplicationJob JOB_AFTER_SECOND_CHUNK = JOB
+            .withLastReviewId(UUID.fromString("dcb724e6-d2cb-4e63-a1ab-d5bc59e5cfdc"))
+            .withProcessedReviews(3);
 
     @Mock
     private MultiplierService multiplierService;
     @Mock
-    private PullRequestScoreComputer pullRequestScoreComputer;
-    @Mock
     private PullRequestReviewService pullRequestReviewService;
     @Mock
-    private DeveloperService developerService;
-    @InjectMocks
+    private MultiplierApplicationJobService multiplierApplicationJobService;
+    @Mock
+    private MultiplierChunkApplier multiplierChunkApplier;
+    @Mock
+    private TaskScheduler taskScheduler;
+
     private MultiplierApplierService multiplierApplierService;
 
+    @BeforeEach
+    void setUp() {
+        multiplierApplierService = new MultiplierApplierService(multiplierService, pullRequestReviewService,
+                multiplierApplicationJobService, multiplierChunkApplier, taskScheduler, CHUNK_SIZE);
+    }
+
     @Test
-    void testApplyLatestMultiplier() {
-        when(multiplierService.getLatestMultiplier()).thenReturn(MULTIPLIER_2);
-        Pageable pageable = Pageable.unpaged();
-        when(pullRequestReviewService.getReviewsWithDifferentMultiplierIds(MULTIPLIER_2.getId(), pageable))
-                .thenReturn(new PageImpl<>(List.of(REVIEW_1, REVIEW_2), pageable, 2));
-        when(pullRequestScoreComputer.computeScore(REVIEW_1.getPullRequestFileDetails(), MULTIPLIER_2))
-                .thenReturn(100.);
-        when(pullRequestScoreComputer.computeScore(REVIEW_2.getPullRequestFileDetails(), MULTIPLIER_2))
-                .thenReturn(200.);
-        when(developerService.getDeveloper(DEVELOPER.getLogin())).thenReturn(DEVELOPER);
-
-        multiplierApplierService.applyLatestMultiplier();
-
-        Developer developerWithUpdatedScore1 = DEVELOPER.withScore(80.);
-        verify(pullRequestReviewService).saveReview(REVIEW_1.withScore(100.)
-                .withMultiplier(MULTIPLIER_2)
-                .withDeveloper(developerWithUpdatedScore1));
-        verify(developerService).saveDeveloper(developerWithUpdatedScore1);
-        Developer developerWithUpdatedScore2 = DEVELOPER.withScore(140.);
-        verify(pullRequestReviewService).saveReview(REVIEW_2.withScore(200.)
-                .withMultiplier(MULTIPLIER_2)
-                .withDeveloper(developerWithUpdatedScore2));
-        verify(developerService).saveDeveloper(developerWithUpdatedScore2);
+    void testStartApplyingLatestMultiplier() {
+        when(multiplierApplicationJobService.getRunningJobs()).thenReturn(Collections.emptyList());
+        when(multiplierService.getLatestMultiplier()).thenReturn(MULTIPLIER);
+        when(pullRequestReviewService.countReviewsWithDifferentMultiplierIds(MULTIPLIER.getId())).thenReturn(3L);
+        when(multiplierApplicationJobService.saveJob(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        MultiplierApplicationJob job = multiplierApplierService.startApplyingLatestMultiplier();
+
+        assertSame(MULTIPLIER, job.getMultiplier());
+        assertEquals(Status.RUNNING, job.getStatus());
+        assertEquals(MultiplierApplicationJob.FIRST_REVIEW_ID, job.getLastReviewId());
+        assertEquals(0, job.getProcessedReviews());
+        assertEquals(3, job.getTotalReviews());
+        verify(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void testStartApplyingLatestMultiplierAttachesToRunningJob() {
+        when(multiplierService.getLatestMultiplier()).thenReturn(MULTIPLIER);
+        when(multiplierApplicationJobService.getRunningJobs()).thenReturn(List.of(JOB_AFTER_FIRST_CHUNK));
+
+        MultiplierApplicationJob job = multiplierApplierService.startApplyingLatestMultiplier();
+
+        assertSame(JOB_AFTER_FIRST_CHUNK, job);
+        verify(multiplierApplicationJobService, never()).saveJob(any());
+        verify(multiplierApplicationJobService, never()).supersedeJob(any());
+        verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void testStartApplyingLatestMultiplierSupersedesOutdatedJob() {
+        Multiplier latestMultiplier = MULTIPLIER.withId(UUID.fromString("c0c6c5a4-5f43-4f36-a8f1-3d1b8d2b1b6e"));
+        when(multiplierService.getLatestMultiplier()).thenReturn(latestMultiplier);
+        when(multiplierApplicationJobService.getRunningJobs()).thenReturn(List.of(JOB_AFTER_FIRST_CHUNK));
+        when(pullRequestReviewService.countReviewsWithDifferentMultiplierIds(latestMultiplier.getId()))
+                .thenReturn(3L);
+        when(multiplierApplicationJobService.saveJob(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        MultiplierApplicationJob job = multiplierApplierService.startApplyingLatestMultiplier();
+
+        verify(multiplierApplicationJobService).supersedeJob(JOB_AFTER_FIRST_CHUNK);
+        assertSame(latestMultiplier, job.getMultiplier());
+        assertEquals(MultiplierApplicationJob.FIRST_REVIEW_ID, job.getLastReviewId());
+        verify(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void testStartApplyingLatestMultiplierStartedByAnotherInstance() {
+        when(multiplierApplicationJobService.getRunningJobs()).thenReturn(Collections.emptyList());
+        when(multiplierService.getLatestMultiplier()).thenReturn(MULTIPLIER);
+        when(pullRequestReviewService.countReviewsWithDifferentMultiplierIds(MULTIPLIER.getId())).thenReturn(3L);
+        when(multiplierApplicationJobService.saveJob(any())).thenReturn(JOB);
+
+        MultiplierApplicationJob job = multiplierApplierService.startApplyingLatestMultiplier();
+
+        assertSame(JOB, job);
+        verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void testResumeInterruptedJobs() {
+        when(multiplierApplicationJobService.claimAbandonedJobs()).thenReturn(List.of(JOB_AFTER_FIRST_CHUNK));
+        stubSkippingUnaffectedReviews(1);
+        when(multiplierChunkApplier.applyMultiplier(JOB_AFTER_FIRST_CHUNK, CHUNK_SIZE))
+                .thenReturn(JOB_AFTER_SECOND_CHUNK);
+
+        multiplierApplierService.resumeInterruptedJobs();
+
+        ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(runnableCaptor.capture(), any(Instant.class));
+        runnableCaptor.getValue()
+                .run();
+        verify(multiplierChunkApplier, never()).applyMultiplier(JOB, CHUNK_SIZE);
+        verify(multiplierApplicationJobService, times(2)).updateJob(any());
+    }
+
+    @Test
+    void testRunJob() {
+        stubSkippingUnaffectedReviews(3);
+        when(multiplierChunkApplier.applyMultiplier(JOB, CHUNK_SIZE)).thenReturn(JOB_AFTER_FIRST_CHUNK);
+        when(multiplierChunkApplier.applyMultiplier(JOB_AFTER_FIRST_CHUNK, CHUNK_SIZE))
+                .thenReturn(JOB_AFTER_SECOND_CHUNK);
+
+        multiplierApplierService.runJob(JOB);
+
+        ArgumentCaptor<MultiplierApplicationJob> jobCaptor = ArgumentCaptor.forClass(MultiplierApplicationJob.class);
+        verify(multiplierApplicationJobService, times(2)).updateJob(jobCaptor.capture());
+        MultiplierApplicationJob finishedJob = jobCaptor.getValue();
+        assertEquals(3, jobCaptor.getAllValues()
+                .get(0)
+                .getTotalReviews());
+        assertEquals(Status.COMPLETED, finishedJob.getStatus());
+        assertEquals(JOB_AFTER_SECOND_CHUNK.getLastReviewId(), finishedJob.getLastReviewId());
+        assertEquals(3, finishedJob.getProcessedReviews());
+        assertNotNull(finishedJob.getFinishedAt());
+        verify(multiplierChunkApplier, times(2)).applyMultiplier(any(), any(Integer.class));
+    }
+
+    @Test
+    void testRunJobStopsAfterEmptyChunk() {
+        stubSkippingUnaffectedReviews(3);
+        when(multiplierChunkApplier.applyMultiplier(JOB, CHUNK_SIZE)).thenReturn(JOB_AFTER_FIRST_CHUNK);
+        when(multiplierChunkApplier.applyMultiplier(JOB_AFTER_FIRST_CHUNK, CHUNK_SIZE))
+                .thenReturn(JOB_AFTER_FIRST_CHUNK);
+
+        multiplierApplierService.runJob(JOB);
+
+        ArgumentCaptor<MultiplierApplicationJob> jobCaptor = ArgumentCaptor.forClass(MultiplierApplicationJob.class);
+        verify(multiplierApplicationJobService, times(2)).updateJob(jobCaptor.capture());
+        assertEquals(Status.COMPLETED, jobCaptor.getValue()
+                .getStatus());
+        assertEquals(2, jobCaptor.getValue()
+                .getProcessedReviews());
+    }
+
+    @Test
+    void testRunJobSkipsUnaffectedReviews() {
+        Multiplier previousMultiplier = MULTIPLIER.withId(UUID.fromString("2f7fc3e6-b54f-4593-aaca-98aeed3d6d02"))
+                .withFileMultipliers(List.of(FileMultiplier.builder()
+                        .fileExtension(".ts")
+                        .additionsMultiplier(2.0)
+                        .deletionsMultiplier(0.4)
+                        .build()));
+        Multiplier oldestMultiplier = MULTIPLIER.withId(UUID.fromString("a49eb29b-d727-4493-a27b-17b2a8d15104"))
+                .withDefaultAdditionsMultiplier(2.0);
+        when(pullRequestReviewService.getDifferentMultipliersOfReviews(MULTIPLIER.getId()))
+                .thenReturn(List.of(previousMultiplier, oldestMultiplier));
+        when(pullRequestReviewService.countReviewsWithDifferentMultiplierIds(MULTIPLIER.getId())).thenReturn(1L);
+        when(multiplierApplicationJobService.updateJob(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        MultiplierApplicationJob updatedJob = JOB.withTotalReviews(1);
+        when(multiplierChunkApplier.applyMultiplier(any(), Mockito.eq(CHUNK_SIZE)))
+                .thenReturn(updatedJob.withProcessedReviews(1));
+
+        multiplierApplierService.runJob(JOB);
+
+        verify(pullRequestReviewService).updateMultiplierIds(previousMultiplier.getId(), MULTIPLIER.getId(),
+                Set.of(".ts"));
+        verify(pullRequestReviewService, never()).updateMultiplierIds(Mockito.eq(oldestMultiplier.getId()), any(),
+                any());
+        verify(multiplierChunkApplier).applyMultiplier(updatedJob, CHUNK_SIZE);
+    }
+
+    @Test
+    void testRunJobWithError() {
+        stubSkippingUnaffectedReviews(3);
+        when(multiplierChunkApplier.applyMultiplier(JOB, CHUNK_SIZE)).thenReturn(JOB_AFTER_FIRST_CHUNK);
+        when(multiplierChunkApplier.applyMultiplier(JOB_AFTER_FIRST_CHUNK, CHUNK_SIZE))
+                .thenThrow(new IllegalStateException("Unable to connect to DB"));
+
+        multiplierApplierService.runJob(JOB);
+
+        ArgumentCaptor<MultiplierApplicationJob> jobCaptor = ArgumentCaptor.forClass(MultiplierApplicationJob.class);
+        verify(multiplierApplicationJobService, times(2)).updateJob(jobCaptor.capture());
+        assertEquals(Status.FAILED, jobCaptor.getValue()
+                .getStatus());
+        assertEquals(JOB_AFTER_FIRST_CHUNK.getLastReviewId(), jobCaptor.getValue()
+                .getLastReviewId());
+    }
+
+    @Test
+    void testRunJobAfterLosingLease() {
+        stubSkippingUnaffectedReviews(3);
+        when(multiplierChunkApplier.applyMultiplier(JOB, CHUNK_SIZE)).thenThrow(new ConflictException(
+                "Multiplier application job 5c3b3a52-3f0c-4f1e-9d8e-0b7f6a0c2d11 is owned by another instance"));
+
+        multiplierApplierService.runJob(JOB);
+
+        ArgumentCaptor<MultiplierApplicationJob> jobCaptor = ArgumentCaptor.forClass(MultiplierApplicationJob.class);
+        verify(multiplierApplicationJobService, times(1)).updateJob(jobCaptor.capture());
+        assertEquals(Status.RUNNING, jobCaptor.getValue()
+                .getStatus());
+    }
+
+    private void stubSkippingUnaffectedReviews(long remainingReviews) {
+        when(pullRequestReviewService.getDifferentMultipliersOfReviews(MULTIPLIER.getId()))
+                .thenReturn(Collections.emptyList());
+        when(pullRequestReviewService.countReviewsWithDifferentMultiplierIds(MULTIPLIER.getId()))
+                .thenReturn(remainingReviews);
+        when(multiplierApplicationJobService.updateJob(any())).thenAnswer(invocation -> invocation.getArgument(0));
     }
 
 }
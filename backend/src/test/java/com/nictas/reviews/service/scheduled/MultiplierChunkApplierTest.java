@@ -0,0 +1,193 @@
+package com.nictas.reviews.service.scheduled;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.nictas.reviews.domain.Developer;
+import com.nictas.reviews.domain.FileMultiplier;
+import com.nictas.reviews.domain.Multiplier;
+import com.nictas.reviews.domain.MultiplierApplicationJob;
+import com.nictas.reviews.domain.PullRequestFileDetails;
+import com.nictas.reviews.domain.PullRequestFileDetails.ChangedFile;
+import com.nictas.reviews.domain.PullRequestReview;
+import com.nictas.reviews.service.DeveloperService;
+import com.nictas.reviews.service.MultiplierApplicationJobService;
+import com.nictas.reviews.service.PullRequestReviewService;
+import com.nictas.reviews.service.score.PullRequestScoreComputer;
+
+@ExtendWith(MockitoExtension.class)
+class MultiplierChunkApplierTest {
+
+    private static final Developer DEVELOPER = new Developer("foo", "foo@example.com");
+    private static final Developer DEVELOPER_BAR = new Developer("bar", "bar@example.com");
+
+    private static final Multiplier MULTIPLIER_1 = Multiplier.builder()
+            .id(UUID.fromString("2f7fc3e6-b54f-4593-aaca-98aeed3d6d02"))
+            .defaultAdditionsMultiplier(1.0)
+            .defaultDeletionsMultiplier(0.2)
+            .fileMultipliers(List.of( //
+                    FileMultiplier.builder()
+                            .fileExtension(".java")
+                            .additionsMultiplier(2.0)
+                            .deletionsMultiplier(0.4)
+                            .build(), //
+                    FileMultiplier.builder()
+                            .fileExtension(".yaml")
+                            .additionsMultiplier(0.5)
+                            .deletionsMultiplier(0.2)
+                            .build() //
+            ))
+            .createdAt(OffsetDateTime.of(2024, 3, 3, 17, 15, 0, 0, ZoneOffset.UTC))
+            .build();
+
+    private static final Multiplier MULTIPLIER_2 = Multiplier.builder()
+            .id(UUID.fromString("98626460-80e1-4acc-b2ea-b28e018ca6d2"))
+            .defaultAdditionsMultiplier(1.0)
+            .defaultDeletionsMultiplier(0.2)
+            .fileMultipliers(List.of( //
+                    FileMultiplier.builder()
+                            .fileExtension(".java")
+                            .additionsMultiplier(3.0)
+                            .deletionsMultiplier(0.2)
+                            .build(), //
+                    FileMultiplier.builder()
+                            .fileExtension(".yaml")
+                            .additionsMultiplier(0.2)
+                            .deletionsMultiplier(0.1)
+                            .build() //
+            ))
+            .createdAt(OffsetDateTime.of(2024, 5, 13, 6, 0, 0, 0, ZoneOffset.UTC))
+            .build();
+
+    private static final PullRequestReview REVIEW_1 = PullRequestReview.builder()
+            .id(UUID.fromString("91a8bdeb-8457-4905-bd08-9d2a46f27b92"))
+            .pullRequestUrl("https://github.com/foo/bar/pull/87")
+            .pullRequestFileDetails(new PullRequestFileDetails(15, 11, List.of(//
+                    ChangedFile.builder()
+                            .name("foo.java")
+                            .additions(15)
+                            .deletions(11)
+                            .build())))
+            .score(20.)
+            .developer(DEVELOPER)
+            .multiplier(MULTIPLIER_1)
+            .build();
+
+    private static final PullRequestReview REVIEW_2 = PullRequestReview.builder()
+            .id(UUID.fromString("dcb724e6-d2cb-4e63-a1ab-d5bc59e5cfdc"))
+            .pullRequestUrl("https://github.com/foo/bar/pull/90")
+            .pullRequestFileDetails(new PullRequestFileDetails(11, 25, List.of(//
+                    ChangedFile.builder()
+                            .name("foo.java")
+                            .additions(10)
+                            .deletions(22)
+                            .build(),
+                    ChangedFile.builder()
+                            .name("bar.java")
+                            .additions(1)
+                            .deletions(3)
+                            .build())))
+            .score(60.)
+            .developer(DEVELOPER)
+            .multiplier(MULTIPLIER_1)
+            .build();
+
+    private static final PullRequestReview REVIEW_3 = PullRequestReview.builder()
+            .id(UUID.fromString("ee2c8153-17a8-486f-93c1-78599eb7e5bf"))
+            .pullRequestUrl("https://github.com/foo/bar/pull/91")
+            .pullRequestFileDetails(new PullRequestFileDetails(7, 0, List.of(//
+                    ChangedFile.builder()
+                            .name("foo.java")
+                            .additions(7)
+                            .deletions(0)
+                            .build())))
+            .score(14.)
+            .developer(DEVELOPER_BAR)
+            .multiplier(MULTIPLIER_1)
+            .build();
+
+    private static final MultiplierApplicationJob JOB = MultiplierApplicationJob.builder()
+            .id(UUID.fromString("5c3b3a52-3f0c-4f1e-9d8e-0b7f6a0c2d11"))
+            .multiplier(MULTIPLIER_2)
+            .lastReviewId(UUID.fromString("00000000-0000-0000-0000-000000000001"))
+            .processedReviews(10)
+            .totalReviews(13)
+            .build();
+
+    @Mock
+    private PullRequestScoreComputer pullRequestScoreComputer;
+    @Mock
+    private PullRequestReviewService pullRequestReviewService;
+    @Mock
+    private DeveloperService developerService;
+    @Mock
+    private MultiplierApplicationJobService multiplierApplicationJobService;
+    @InjectMocks
+    private MultiplierChunkApplier multiplierChunkApplier;
+
+    @Test
+    void testApplyMultiplier() {
+        when(pullRequestReviewService.getReviewsWithDifferentMultiplierIds(MULTIPLIER_2.getId(), JOB.getLastReviewId(),
+                10)).thenReturn(List.of(REVIEW_1, REVIEW_2, REVIEW_3));
+        when(multiplierApplicationJobService.updateJob(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(pullRequestScoreComputer.computeScore(REVIEW_1.getPullRequestFileDetails(), MULTIPLIER_2))
+                .thenReturn(100.);
+        when(pullRequestScoreComputer.computeScore(REVIEW_2.getPullRequestFileDetails(), MULTIPLIER_2))
+                .thenReturn(200.);
+        when(pullRequestScoreComputer.computeScore(REVIEW_3.getPullRequestFileDetails(), MULTIPLIER_2))
+                .thenReturn(21.);
+
+        MultiplierApplicationJob job = multiplierChunkApplier.applyMultiplier(JOB, 10);
+
+        assertEquals(REVIEW_3.getId(), job.getLastReviewId());
+        assertEquals(13, job.getProcessedReviews());
+        InOrder inOrder = Mockito.inOrder(pullRequestReviewService, developerService, multiplierApplicationJobService);
+        inOrder.verify(pullRequestReviewService)
+                .updateReviews(List.of(REVIEW_1.withScore(100.)
+                        .withMultiplier(MULTIPLIER_2),
+                        REVIEW_2.withScore(200.)
+                                .withMultiplier(MULTIPLIER_2),
+                        REVIEW_3.withScore(21.)
+                                .withMultiplier(MULTIPLIER_2)));
+        inOrder.verify(developerService)
+                .addToScore(DEVELOPER_BAR.getLogin(), 7.);
+        inOrder.verify(developerService)
+                .addToScore(DEVELOPER.getLogin(), 220.);
+        inOrder.verify(multiplierApplicationJobService)
+                .updateJob(job);
+        verifyNoMoreInteractions(developerService);
+    }
+
+    @Test
+    void testApplyMultiplierWithoutReviews() {
+        when(pullRequestReviewService.getReviewsWithDifferentMultiplierIds(MULTIPLIER_2.getId(), JOB.getLastReviewId(),
+                10)).thenReturn(Collections.emptyList());
+
+        MultiplierApplicationJob job = multiplierChunkApplier.applyMultiplier(JOB, 10);
+
+        assertSame(JOB, job);
+        verify(multiplierApplicationJobService, never()).updateJob(any());
+        verify(pullRequestReviewService, never()).updateReviews(any());
+        verify(developerService, never()).addToScore(any(), Mockito.anyDouble());
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.nictas.reviews.service.scheduled;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.nictas.reviews.domain.Developer;
+
+class OrganizationAdminsSnapshotTest {
+
+    private static final Developer ADMIN_FOO = new Developer("Foo", "Foo@Example.com");
+    private static final Developer ADMIN_BAR = new Developer("bar", null);
+
+    private final OrganizationAdminsSnapshot snapshot = new OrganizationAdminsSnapshot(List.of(ADMIN_FOO, ADMIN_BAR));
+
+    @Test
+    void testIndexes() {
+        assertEquals(List.of(ADMIN_FOO, ADMIN_BAR), snapshot.getAdmins());
+        assertEquals(Set.of("foo", "bar"), snapshot.getLogins());
+        assertEquals(Set.of("foo@example.com"), snapshot.getEmails());
+    }
+
+    @Test
+    void testIsAdminByLogin() {
+        assertTrue(snapshot.isAdmin(new Developer("FOO", null)));
+        assertTrue(snapshot.isAdmin(new Developer("bar", "bar@example.com")));
+    }
+
+    @Test
+    void testIsAdminByEmail() {
+        assertTrue(snapshot.isAdmin(new Developer("baz", " foo@example.COM")));
+    }
+
+    @Test
+    void testIsNotAdmin() {
+        assertFalse(snapshot.isAdmin(new Developer("baz", "baz@example.com")));
+        assertFalse(snapshot.isAdmin(new Developer("baz", null)));
+        assertFalse(OrganizationAdminsSnapshot.EMPTY.isAdmin(ADMIN_FOO));
+    }
+
+    @Test
+    void testEquality() {
+        assertEquals(snapshot,
+                new OrganizationAdminsSnapshot(List.of(ADMIN_BAR, new Developer("foo", "foo@example.com"))));
+        assertNotEquals(snapshot, new OrganizationAdminsSnapshot(List.of(ADMIN_FOO)));
+    }
+
+}
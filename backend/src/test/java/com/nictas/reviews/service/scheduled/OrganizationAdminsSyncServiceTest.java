@@ -1,8 +1,10 @@
 package com.nictas.reviews.service.scheduled;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +18,7 @@ import com.nictas.reviews.repository.DeveloperRepository;
 import com.nictas.reviews.repository.PullRequestReviewRepository;
 import com.nictas.reviews.service.github.GitHubClient;
 import com.nictas.reviews.service.github.GitHubClientProvider;
+import com.nictas.reviews.service.github.GitHubRequestPriority;
 
 @ExtendWith(MockitoExtension.class)
 class OrganizationAdminsSyncServiceTest {
@@ -50,7 +53,39 @@ class OrganizationAdminsSyncServiceTest {
 
         organizationAdminsSyncService.fetchAndUpdateOrganizationAdmins();
 
-        assertEquals(List.of(developerFoo, developerBar), organizationAdminsSyncService.getOrganizationAdmins());
+        assertEquals(List.of(developerFoo, developerBar), organizationAdminsSyncService.getOrganizationAdmins()
+                .getAdmins());
+    }
+
+    @Test
+    void testFetchAndUpdateOrganizationAdminsKeepsUnchangedSnapshot() {
+        Developer developerFoo = new Developer("foo", "foo@example.com");
+        when(client.getOrganizationAdmins(DEVELOPERS_ORG)).thenReturn(List.of(developerFoo),
+                List.of(new Developer("FOO", "Foo@Example.com")), List.of());
+
+        organizationAdminsSyncService.fetchAndUpdateOrganizationAdmins();
+        OrganizationAdminsSnapshot snapshot = organizationAdminsSyncService.getOrganizationAdmins();
+        organizationAdminsSyncService.fetchAndUpdateOrganizationAdmins();
+
+        assertSame(snapshot, organizationAdminsSyncService.getOrganizationAdmins());
+
+        organizationAdminsSyncService.fetchAndUpdateOrganizationAdmins();
+
+        assertEquals(OrganizationAdminsSnapshot.EMPTY, organizationAdminsSyncService.getOrganizationAdmins());
+    }
+
+    @Test
+    void testFetchAndUpdateOrganizationAdminsRunsInBackground() {
+        List<GitHubRequestPriority> priorities = new ArrayList<>();
+        when(client.getOrganizationAdmins(DEVELOPERS_ORG)).thenAnswer(invocation -> {
+            priorities.add(GitHubRequestPriority.current());
+            return List.of();
+        });
+
+        organizationAdminsSyncService.fetchAndUpdateOrganizationAdmins();
+
+        assertEquals(List.of(GitHubRequestPriority.BACKGROUND), priorities);
+        assertEquals(GitHubRequestPriority.INTERACTIVE, GitHubRequestPriority.current());
     }
 
 }
@@ -0,0 +1,102 @@
+package com.nictas.reviews.service.score;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.nictas.reviews.domain.FileMultiplier;
+
+class FileMultiplierMatcherTest {
+
+    private static final FileMultiplier JAVA_MULTIPLIER = FileMultiplier.builder()
+            .fileExtension(".java")
+            .additionsMultiplier(2.0)
+            .deletionsMultiplier(0.1)
+            .build();
+
+    private static final FileMultiplier JAVA_TEST_MULTIPLIER = FileMultiplier.builder()
+            .fileExtension("Test.java")
+            .additionsMultiplier(0.5)
+            .deletionsMultiplier(0.1)
+            .build();
+
+    private static final FileMultiplier YAML_MULTIPLIER = FileMultiplier.builder()
+            .fileExtension(".yaml")
+            .additionsMultiplier(0.5)
+            .deletionsMultiplier(0.2)
+            .build();
+
+    @Test
+    void testMatch() {
+        FileMultiplierMatcher matcher = new FileMultiplierMatcher(List.of(JAVA_MULTIPLIER, YAML_MULTIPLIER));
+
+        assertSame(JAVA_MULTIPLIER, matcher.match("src/main/java/Foo.java"));
+        assertSame(YAML_MULTIPLIER, matcher.match("manifest.yaml"));
+    }
+
+    @Test
+    void testMatchWithoutMatchingExtension() {
+        FileMultiplierMatcher matcher = new FileMultiplierMatcher(List.of(JAVA_MULTIPLIER, YAML_MULTIPLIER));
+
+        assertNull(matcher.match("README.md"));
+        assertNull(matcher.match("java"));
+        assertNull(matcher.match(""));
+    }
+
+    @Test
+    void testMatchWithoutFileMultipliers() {
+        FileMultiplierMatcher matcher = new FileMultiplierMatcher(Collections.emptyList());
+
+        assertNull(matcher.match("Foo.java"));
+    }
+
+    @Test
+    void testMatchPrefersLongestExtension() {
+        FileMultiplierMatcher matcher = new FileMultiplierMatcher(List.of(JAVA_MULTIPLIER, JAVA_TEST_MULTIPLIER));
+        FileMultiplierMatcher reversedMatcher = new FileMultiplierMatcher(
+                List.of(JAVA_TEST_MULTIPLIER, JAVA_MULTIPLIER));
+
+        assertSame(JAVA_TEST_MULTIPLIER, matcher.match("FooTest.java"));
+        assertSame(JAVA_TEST_MULTIPLIER, reversedMatcher.match("FooTest.java"));
+        assertSame(JAVA_MULTIPLIER, matcher.match("Foo.java"));
+        assertSame(JAVA_MULTIPLIER, reversedMatcher.match("Foo.java"));
+    }
+
+    @Test
+    void testMatchWithDuplicateExtensions() {
+        FileMultiplier otherJavaMultiplier = JAVA_MULTIPLIER.withAdditionsMultiplier(3.0);
+        FileMultiplierMatcher matcher = new FileMultiplierMatcher(List.of(JAVA_MULTIPLIER, otherJavaMultiplier));
+
+        assertSame(JAVA_MULTIPLIER, matcher.match("Foo.java"));
+    }
+
+    @Test
+    void testMatchPrefersPathPatterns() {
+        FileMultiplier generatedMultiplier = FileMultiplier.builder()
+                .pathPattern("**/generated/**")
+                .additionsMultiplier(0.)
+                .deletionsMultiplier(0.)
+                .build();
+        FileMultiplierMatcher matcher = new FileMultiplierMatcher(
+                List.of(JAVA_MULTIPLIER, generatedMultiplier, YAML_MULTIPLIER));
+
+        assertSame(generatedMultiplier, matcher.match("target/generated/Foo.java"));
+        assertSame(JAVA_MULTIPLIER, matcher.match("src/main/java/Foo.java"));
+        assertNull(matcher.match("README.md"));
+    }
+
+    @Test
+    void testIsCompiledFrom() {
+        FileMultiplierMatcher matcher = new FileMultiplierMatcher(List.of(JAVA_MULTIPLIER, YAML_MULTIPLIER));
+
+        assertTrue(matcher.isCompiledFrom(List.of(JAVA_MULTIPLIER, YAML_MULTIPLIER)));
+        assertFalse(matcher.isCompiledFrom(List.of(JAVA_MULTIPLIER)));
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.nictas.reviews.service.score;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.nictas.reviews.domain.FileMultiplier;
+import com.nictas.reviews.domain.Multiplier;
+
+class MultiplierDiffTest {
+
+    private static final FileMultiplier JAVA = FileMultiplier.builder()
+            .fileExtension(".java")
+            .additionsMultiplier(2.0)
+            .deletionsMultiplier(0.4)
+            .build();
+
+    private static final FileMultiplier TS = FileMultiplier.builder()
+            .fileExtension(".ts")
+            .additionsMultiplier(1.5)
+            .deletionsMultiplier(0.3)
+            .build();
+
+    private static final FileMultiplier DOCS = FileMultiplier.builder()
+            .pathPattern("docs/**")
+            .additionsMultiplier(0.1)
+            .deletionsMultiplier(0.1)
+            .build();
+
+    private static final Multiplier MULTIPLIER = Multiplier.builder()
+            .id(UUID.fromString("2f7fc3e6-b54f-4593-aaca-98aeed3d6d02"))
+            .defaultAdditionsMultiplier(1.0)
+            .defaultDeletionsMultiplier(0.2)
+            .fileMultipliers(List.of(JAVA, TS, DOCS))
+            .build();
+
+    @Test
+    void testBetweenIdenticalRules() {
+        Multiplier latestMultiplier = MULTIPLIER.withId(UUID.randomUUID())
+                .withFileMultipliers(List.of(JAVA.withId(UUID.randomUUID()), TS.withId(UUID.randomUUID()),
+                        DOCS.withId(UUID.randomUUID())));
+
+        MultiplierDiff diff = MultiplierDiff.between(MULTIPLIER, latestMultiplier);
+
+        assertFalse(diff.isFullRescoringRequired());
+        assertTrue(diff.getChangedFileExtensions()
+                .isEmpty());
+    }
+
+    @Test
+    void testBetweenChangedFileExtensionRules() {
+        FileMultiplier yaml = FileMultiplier.builder()
+                .fileExtension(".yaml")
+                .additionsMultiplier(0.5)
+                .deletionsMultiplier(0.2)
+                .build();
+        Multiplier latestMultiplier = MULTIPLIER.withId(UUID.randomUUID())
+                .withFileMultipliers(List.of(TS.withAdditionsMultiplier(3.0), yaml, DOCS));
+
+        MultiplierDiff diff = MultiplierDiff.between(MULTIPLIER, latestMultiplier);
+
+        assertFalse(diff.isFullRescoringRequired());
+        assertEquals(Set.of(".java", ".ts", ".yaml"), diff.getChangedFileExtensions());
+    }
+
+    @Test
+    void testBetweenIgnoresShadowedDuplicateRules() {
+        Multiplier latestMultiplier = MULTIPLIER.withId(UUID.randomUUID())
+                .withFileMultipliers(List.of(JAVA, TS, DOCS, JAVA.withAdditionsMultiplier(5.0)));
+
+        MultiplierDiff diff = MultiplierDiff.between(MULTIPLIER, latestMultiplier);
+
+        assertFalse(diff.isFullRescoringRequired());
+        assertTrue(diff.getChangedFileExtensions()
+                .isEmpty());
+    }
+
+    @Test
+    void testBetweenChangedDefaults() {
+        Multiplier latestMultiplier = MULTIPLIER.withId(UUID.randomUUID())
+                .withDefaultDeletionsMultiplier(0.3);
+
+        MultiplierDiff diff = MultiplierDiff.between(MULTIPLIER, latestMultiplier);
+
+        assertTrue(diff.isFullRescoringRequired());
+    }
+
+    @Test
+    void testBetweenChangedPathPatternRules() {
+        Multiplier latestMultiplier = MULTIPLIER.withId(UUID.randomUUID())
+                .withFileMultipliers(List.of(JAVA, TS, DOCS.withPathPattern("doc/**")));
+
+        MultiplierDiff diff = MultiplierDiff.between(MULTIPLIER, latestMultiplier);
+
+        assertTrue(diff.isFullRescoringRequired());
+    }
+
+    @Test
+    void testBetweenChangedFileExtensionRuleWithoutDot() {
+        FileMultiplier dockerfile = FileMultiplier.builder()
+                .fileExtension("Dockerfile")
+                .additionsMultiplier(0.5)
+                .deletionsMultiplier(0.2)
+                .build();
+        Multiplier latestMultiplier = MULTIPLIER.withId(UUID.randomUUID())
+                .withFileMultipliers(List.of(JAVA, TS, DOCS, dockerfile));
+
+        MultiplierDiff diff = MultiplierDiff.between(MULTIPLIER, latestMultiplier);
+
+        assertTrue(diff.isFullRescoringRequired());
+    }
+
+}
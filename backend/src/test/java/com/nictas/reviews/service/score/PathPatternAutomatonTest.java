@@ -0,0 +1,120 @@
+package com.nictas.reviews.service.score;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class PathPatternAutomatonTest {
+
+    @Test
+    void testMatchFileNamePattern() {
+        PathPatternAutomaton automaton = new PathPatternAutomaton(List.of("*.lock"));
+
+        assertEquals(0, automaton.match("yarn.lock"));
+        assertEquals(0, automaton.match("frontend/package.lock"));
+        assertEquals(-1, automaton.match("yarn.lock.bak"));
+        assertEquals(-1, automaton.match("locks/yarn"));
+    }
+
+    @Test
+    void testMatchFileNamePatternOnlyOnWholeFileName() {
+        PathPatternAutomaton automaton = new PathPatternAutomaton(List.of("Cargo.lock"));
+
+        assertEquals(0, automaton.match("Cargo.lock"));
+        assertEquals(0, automaton.match("src/Cargo.lock"));
+        assertEquals(-1, automaton.match("NotCargo.lock"));
+        assertEquals(-1, automaton.match("src/NotCargo.lock"));
+    }
+
+    @Test
+    void testMatchDirectoryPattern() {
+        PathPatternAutomaton automaton = new PathPatternAutomaton(List.of("**/generated/**"));
+
+        assertEquals(0, automaton.match("generated/Foo.java"));
+        assertEquals(0, automaton.match("backend/target/generated/sources/Foo.java"));
+        assertEquals(-1, automaton.match("backend/generated-sources/Foo.java"));
+        assertEquals(-1, automaton.match("backend/src/Generated.java"));
+        assertEquals(-1, automaton.match("backend/notgenerated/Foo.java"));
+        assertEquals(-1, automaton.match("notgenerated/Foo.java"));
+    }
+
+    @Test
+    void testMatchAnchoredPattern() {
+        PathPatternAutomaton automaton = new PathPatternAutomaton(List.of("docs/**/*.md"));
+
+        assertEquals(0, automaton.match("docs/README.md"));
+        assertEquals(0, automaton.match("docs/guides/setup/install.md"));
+        assertEquals(-1, automaton.match("backend/docs/README.md"));
+        assertEquals(-1, automaton.match("docs/README.txt"));
+    }
+
+    @Test
+    void testMatchAnchoredPatternOnlyOnWholeFileName() {
+        PathPatternAutomaton automaton = new PathPatternAutomaton(List.of("docs/**/README.md"));
+
+        assertEquals(0, automaton.match("docs/README.md"));
+        assertEquals(0, automaton.match("docs/guides/README.md"));
+        assertEquals(-1, automaton.match("docs/fooREADME.md"));
+        assertEquals(-1, automaton.match("docs/guides/fooREADME.md"));
+    }
+
+    @Test
+    void testMatchPatternWithLeadingSlash() {
+        PathPatternAutomaton automaton = new PathPatternAutomaton(List.of("/pom.xml"));
+
+        assertEquals(0, automaton.match("pom.xml"));
+        assertEquals(-1, automaton.match("backend/pom.xml"));
+    }
+
+    @Test
+    void testMatchSingleCharacterWildcard() {
+        PathPatternAutomaton automaton = new PathPatternAutomaton(List.of("src/v?/*.sql"));
+
+        assertEquals(0, automaton.match("src/v1/schema.sql"));
+        assertEquals(-1, automaton.match("src/v10/schema.sql"));
+        assertEquals(-1, automaton.match("src/v/schema.sql"));
+    }
+
+    @Test
+    void testMatchPrefersFirstPattern() {
+        PathPatternAutomaton automaton = new PathPatternAutomaton(
+                List.of("**/vendor/**", "*.go", "**/vendor/**/*.go"));
+
+        assertEquals(0, automaton.match("vendor/github.com/foo/bar.go"));
+        assertEquals(1, automaton.match("cmd/main.go"));
+    }
+
+    @Test
+    void testMatchWithManyPatterns() {
+        List<String> patterns = IntStream.range(0, 100)
+                .mapToObj(i -> "module" + i + "/**/*.java")
+                .toList();
+        PathPatternAutomaton automaton = new PathPatternAutomaton(patterns);
+
+        assertEquals(42, automaton.match("module42/src/main/java/Foo.java"));
+        assertEquals(-1, automaton.match("module100/src/main/java/Foo.java"));
+    }
+
+    @Test
+    void testMatchWithoutPatterns() {
+        PathPatternAutomaton automaton = new PathPatternAutomaton(Collections.emptyList());
+
+        assertEquals(-1, automaton.match("Foo.java"));
+    }
+
+    @Test
+    void testEmptyPattern() {
+        List<String> patterns = List.of("/");
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new PathPatternAutomaton(patterns));
+
+        assertEquals("Path pattern must not be empty", exception.getMessage());
+    }
+
+}
@@ -2,20 +2,28 @@ package com.nictas.reviews.service.score;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 
 import com.nictas.reviews.domain.FileMultiplier;
 import com.nictas.reviews.domain.Multiplier;
@@ -24,8 +32,12 @@ import com.nictas.reviews.domain.PullRequestFileDetails.ChangedFile;
 import com.nictas.reviews.service.MultiplierService;
 import com.nictas.reviews.service.github.GitHubClient;
 import com.nictas.reviews.service.github.GitHubClientProvider;
+import com.nictas.reviews.service.github.PullRequestHead;
+import com.nictas.reviews.service.github.PullRequestInfoCache;
 import com.nictas.reviews.service.score.PullRequestScoreComputer.PullRequestAssessment;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class PullRequestScoreComputerTest {
 
@@ -59,6 +71,13 @@ class PullRequestScoreComputerTest {
     @Mock
     private MultiplierService multiplierService;
 
+    @Spy
+    private TaskExecutor taskExecutor = new SyncTaskExecutor();
+
+    @Spy
+    private PullRequestInfoCache pullRequestInfoCache = new PullRequestInfoCache(new SimpleMeterRegistry(), 100,
+            Duration.ofHours(1));
+
     @InjectMocks
     private PullRequestScoreComputer scoreComputer;
 
@@ -91,7 +110,7 @@ class PullRequestScoreComputerTest {
                         .additions(40) // 30
                         .deletions(50)
                         .build()));
-        when(client.getPullRequestInfo(any())).thenReturn(pullRequestInfo);
+        when(client.getPullRequestHead(any())).thenReturn(new PullRequestHead(null, () -> pullRequestInfo));
 
         PullRequestAssessment assessment = scoreComputer.computeScore(PR_URL);
         PullRequestAssessment expectedAssessment = new PullRequestAssessment(PR_URL, pullRequestInfo, 112., MULTIPLIER);
@@ -99,10 +118,40 @@ class PullRequestScoreComputerTest {
         assertEquals(expectedAssessment, assessment);
     }
 
+    @Test
+    void testComputeScoreWithChangedFileMultipliers() {
+        PullRequestFileDetails pullRequestInfo = new PullRequestFileDetails(20, 10, List.of(//
+                ChangedFile.builder()
+                        .name("FooTest.java")
+                        .additions(20)
+                        .deletions(10)
+                        .build()));
+        when(client.getPullRequestHead(any())).thenReturn(new PullRequestHead(null, () -> pullRequestInfo));
+        Multiplier changedMultiplier = MULTIPLIER.withFileMultipliers(List.of( //
+                FileMultiplier.builder()
+                        .fileExtension(".java")
+                        .additionsMultiplier(2.0)
+                        .deletionsMultiplier(0.1)
+                        .build(), //
+                FileMultiplier.builder()
+                        .fileExtension("Test.java")
+                        .additionsMultiplier(0.5)
+                        .deletionsMultiplier(0.2)
+                        .build() //
+        ));
+
+        double score = scoreComputer.computeScore(PR_URL)
+                .getScore();
+        double scoreWithChangedMultiplier = scoreComputer.computeScore(pullRequestInfo, changedMultiplier);
+
+        assertEquals(41., score);
+        assertEquals(12., scoreWithChangedMultiplier);
+    }
+
     @Test
     void testComputeScoreWithNoChanges() {
         PullRequestFileDetails pullRequestInfo = new PullRequestFileDetails(0, 0, Collections.emptyList());
-        when(client.getPullRequestInfo(any())).thenReturn(pullRequestInfo);
+        when(client.getPullRequestHead(any())).thenReturn(new PullRequestHead(null, () -> pullRequestInfo));
 
         PullRequestAssessment assessment = scoreComputer.computeScore(PR_URL);
         PullRequestAssessment expectedAssessment = new PullRequestAssessment(PR_URL, pullRequestInfo, 0., MULTIPLIER);
@@ -110,4 +159,29 @@ class PullRequestScoreComputerTest {
         assertEquals(expectedAssessment, assessment);
     }
 
+    @Test
+    void testComputeScores() {
+        String otherPrUrl = "https://github.com/example/repository/pull/124";
+        when(clientProvider.getClientForUrl(otherPrUrl)).thenReturn(client);
+        PullRequestFileDetails pullRequestInfo = new PullRequestFileDetails(20, 10, List.of(//
+                ChangedFile.builder()
+                        .name("file1.java")
+                        .additions(20)
+                        .deletions(10) // 41
+                        .build()));
+        when(client.getPullRequestHead(any())).thenReturn(new PullRequestHead(null, () -> pullRequestInfo));
+
+        Map<String, CompletableFuture<PullRequestAssessment>> assessments = scoreComputer
+                .computeScores(List.of(PR_URL, otherPrUrl, PR_URL));
+
+        assertEquals(List.of(PR_URL, otherPrUrl), List.copyOf(assessments.keySet()));
+        assertEquals(new PullRequestAssessment(PR_URL, pullRequestInfo, 41., MULTIPLIER), assessments.get(PR_URL)
+                .join());
+        assertEquals(new PullRequestAssessment(otherPrUrl, pullRequestInfo, 41., MULTIPLIER), assessments
+                .get(otherPrUrl)
+                .join());
+        verify(multiplierService, times(1)).getLatestMultiplier();
+        verify(client, times(2)).getPullRequestHead(any());
+    }
+
 }
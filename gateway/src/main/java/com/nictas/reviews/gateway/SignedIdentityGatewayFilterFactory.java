@@ -0,0 +1,112 @@
+package com.nictas.reviews.gateway;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebSession;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+
+@Component
+public class SignedIdentityGatewayFilterFactory extends AbstractGatewayFilterFactory<Object> {
+
+    static final String ISSUER = "fair-reviews-gateway";
+    static final String EMAIL_CLAIM = "email";
+    static final String SESSION_ATTRIBUTE = SignedIdentityGatewayFilterFactory.class.getName() + ".IDENTITY";
+    static final int MINIMUM_KEY_LENGTH = 32;
+    static final Duration RENEWAL_MARGIN = Duration.ofSeconds(30);
+
+    private final JwtEncoder jwtEncoder;
+    private final Duration expiration;
+
+    @Autowired
+    public SignedIdentityGatewayFilterFactory(@Value("${identity-assertion.key:}") String key,
+                                              @Value("${identity-assertion.expiration:5m}") Duration expiration) {
+        super(Object.class);
+        this.jwtEncoder = key.isEmpty() ? null : createJwtEncoder(key);
+        this.expiration = expiration;
+    }
+
+    private static JwtEncoder createJwtEncoder(String key) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length < MINIMUM_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    String.format("The identity assertion key must be at least %d bytes long", MINIMUM_KEY_LENGTH));
+        }
+        return new NimbusJwtEncoder(new ImmutableSecret<>(new SecretKeySpec(keyBytes, "HmacSHA256")));
+    }
+
+    @Override
+    public GatewayFilter apply(Object config) {
+        return (exchange, chain) -> {
+            if (jwtEncoder == null) {
+                return chain.filter(exchange);
+            }
+            return exchange.getPrincipal()
+                    .filter(OAuth2AuthenticationToken.class::isInstance)
+                    .cast(OAuth2AuthenticationToken.class)
+                    .zipWith(exchange.getSession())
+                    .map(principalAndSession -> getSignedIdentity(principalAndSession.getT2(),
+                            principalAndSession.getT1()
+                                    .getPrincipal()))
+                    .map(signedIdentity -> withBearerToken(exchange, signedIdentity.getTokenValue()))
+                    .defaultIfEmpty(exchange)
+                    .flatMap(chain::filter);
+        };
+    }
+
+    private Jwt getSignedIdentity(WebSession session, OAuth2User user) {
+        Jwt signedIdentity = session.getAttribute(SESSION_ATTRIBUTE);
+        if (signedIdentity != null && user.getName()
+                .equals(signedIdentity.getSubject())
+                && signedIdentity.getExpiresAt()
+                        .isAfter(Instant.now()
+                                .plus(RENEWAL_MARGIN))) {
+            return signedIdentity;
+        }
+        signedIdentity = sign(user);
+        session.getAttributes()
+                .put(SESSION_ATTRIBUTE, signedIdentity);
+        return signedIdentity;
+    }
+
+    private Jwt sign(OAuth2User user) {
+        Instant now = Instant.now();
+        JwtClaimsSet.Builder claims = JwtClaimsSet.builder()
+                .issuer(ISSUER)
+                .subject(user.getName())
+                .issuedAt(now)
+                .expiresAt(now.plus(expiration));
+        String email = user.getAttribute(EMAIL_CLAIM);
+        if (email != null) {
+            claims.claim(EMAIL_CLAIM, email);
+        }
+        return jwtEncoder.encode(JwtEncoderParameters.from(JwsHeader.with(MacAlgorithm.HS256)
+                .build(), claims.build()));
+    }
+
+    private static ServerWebExchange withBearerToken(ServerWebExchange exchange, String token) {
+        return exchange.mutate()
+                .request(request -> request.headers(headers -> headers.setBearerAuth(token)))
+                .build();
+    }
+
+}